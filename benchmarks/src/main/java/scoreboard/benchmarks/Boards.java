@@ -0,0 +1,41 @@
+package scoreboard.benchmarks;
+
+import scoreboard.ConcurrentScoreBoard;
+import scoreboard.ScoreBoard;
+import scoreboard.SimpleScoreBoard;
+import scoreboard.metrics.InstrumentedScoreBoard;
+
+final class Boards {
+
+    static final String SIMPLE = "simple";
+    static final String CONCURRENT = "concurrent";
+    static final String INSTRUMENTED = "instrumented";
+
+    static ScoreBoard create(String implementation) {
+        return switch (implementation) {
+            case SIMPLE -> new SimpleScoreBoard();
+            case CONCURRENT -> new ConcurrentScoreBoard();
+            case INSTRUMENTED -> new InstrumentedScoreBoard(new SimpleScoreBoard());
+            default -> throw new IllegalArgumentException("Unknown board implementation: " + implementation);
+        };
+    }
+
+    static String[] teams(String prefix, int count) {
+        String[] teams = new String[count];
+        for (int i = 0; i < count; i++) {
+            teams[i] = prefix + i;
+        }
+        return teams;
+    }
+
+    static void fill(ScoreBoard board, String[] homeTeams, String[] awayTeams) {
+        for (int i = 0; i < homeTeams.length; i++) {
+            board.startNewMatch(homeTeams[i], awayTeams[i]);
+            board.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+        }
+    }
+
+    private Boards() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,123 @@
+package scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of {@link scoreboard.ConcurrentScoreBoard}. Every writer thread owns a
+ * disjoint slice of the matches so the runs measure the board rather than rule violations; run
+ * with {@code -t} to change the number of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+public class ConcurrentScoreBoardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedBoard {
+
+        @Param({"10", "1000", "100000"})
+        int size;
+
+        ScoreBoard board;
+        String[] homeTeams;
+        String[] awayTeams;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            board = Boards.create(Boards.CONCURRENT);
+            homeTeams = Boards.teams("Home", size);
+            awayTeams = Boards.teams("Away", size);
+            Boards.fill(board, homeTeams, awayTeams);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private int first;
+        private int step;
+        private int cursor;
+        private int goals;
+        private String spareHome;
+        private String spareAway;
+
+        @Setup(Level.Trial)
+        public void setUp(SharedBoard shared, BenchmarkParams benchmark, ThreadParams thread) {
+            step = Math.max(benchmark.getThreads(), 1);
+            first = thread.getThreadIndex() % shared.size;
+            cursor = first;
+            spareHome = "SpareHome" + thread.getThreadIndex();
+            spareAway = "SpareAway" + thread.getThreadIndex();
+        }
+
+        int nextMatch(int size) {
+            int match = cursor;
+            cursor = match + step < size ? match + step : first;
+            return match;
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateScore(SharedBoard shared, Writer writer) {
+        int match = writer.nextMatch(shared.size);
+        shared.board.updateScore(shared.homeTeams[match], shared.awayTeams[match], writer.goals++ & 15, match & 3);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void incrementHomeGoal(SharedBoard shared, Writer writer) {
+        int match = writer.nextMatch(shared.size);
+        shared.board.incrementHomeGoal(shared.homeTeams[match], shared.awayTeams[match]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void startNewMatchAndFinishMatch(SharedBoard shared, Writer writer) {
+        shared.board.startNewMatch(writer.spareHome, writer.spareAway);
+        shared.board.finishMatch(writer.spareHome, writer.spareAway);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Match> getSummary(SharedBoard shared) {
+        return shared.board.getSummary();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public void mixedUpdateScore(SharedBoard shared, Writer writer) {
+        updateScore(shared, writer);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public List<Match> mixedGetSummary(SharedBoard shared) {
+        return shared.board.getSummary();
+    }
+}
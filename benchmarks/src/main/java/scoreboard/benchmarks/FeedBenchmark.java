@@ -0,0 +1,84 @@
+package scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scoreboard.SimpleScoreBoard;
+import scoreboard.feed.FeedIngestor;
+import scoreboard.feed.FeedResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of ingesting a feed file of {@code size} matches that are each started, updated ten times
+ * and finished, from a memory-mapped file and through a channel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class FeedBenchmark {
+
+    private static final int UPDATES_PER_MATCH = 10;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("feed-benchmark", ".feed");
+        String[] homeTeams = Boards.teams("Home", size);
+        String[] awayTeams = Boards.teams("Away", size);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < size; i++) {
+                writer.write("START " + homeTeams[i] + " " + awayTeams[i] + "\n");
+            }
+            for (int round = 1; round <= UPDATES_PER_MATCH; round++) {
+                for (int i = 0; i < size; i++) {
+                    writer.write("SCORE " + homeTeams[i] + " " + awayTeams[i] + " " + round + " " + (i & 3) + "\n");
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                writer.write("FINISH " + homeTeams[i] + " " + awayTeams[i] + "\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public FeedResult ingestMappedFile() throws IOException {
+        return new FeedIngestor(new SimpleScoreBoard(), error -> {
+        }).ingest(file);
+    }
+
+    @Benchmark
+    public FeedResult ingestChannel() throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return new FeedIngestor(new SimpleScoreBoard(), error -> {
+            }).ingest(channel);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scoreboard.SimpleScoreBoard;
+import scoreboard.ingest.RingBufferIngestor;
+import scoreboard.ingest.WaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishing throughput of four producers feeding one {@link RingBufferIngestor}. Each producer
+ * updates its own slice of the matches; the consumer applies the commands in batches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@Threads(4)
+public class IngestorBenchmark {
+
+    private static final int MATCHES_PER_PRODUCER = 256;
+
+    @State(Scope.Benchmark)
+    public static class Ring {
+
+        @Param({"BUSY_SPIN", "YIELD", "PARK"})
+        WaitStrategy waitStrategy;
+
+        RingBufferIngestor ingestor;
+        final AtomicInteger producers = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            ingestor = new RingBufferIngestor(new SimpleScoreBoard(), RingBufferIngestor.DEFAULT_CAPACITY, waitStrategy,
+                    RingBufferIngestor.DEFAULT_MAX_BATCH_SIZE, failure -> {
+                    });
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            ingestor.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+
+        String[] homeTeams;
+        String[] awayTeams;
+        int cursor;
+        int goals;
+
+        @Setup(Level.Trial)
+        public void setUp(Ring ring) {
+            int producer = ring.producers.getAndIncrement();
+            homeTeams = Boards.teams("Home" + producer + "-", MATCHES_PER_PRODUCER);
+            awayTeams = Boards.teams("Away" + producer + "-", MATCHES_PER_PRODUCER);
+            long last = 0;
+            for (int i = 0; i < MATCHES_PER_PRODUCER; i++) {
+                last = ring.ingestor.startNewMatch(homeTeams[i], awayTeams[i]);
+            }
+            ring.ingestor.awaitApplied(last);
+        }
+    }
+
+    @Benchmark
+    public long updateScore(Ring ring, Producer producer) {
+        int match = producer.cursor;
+        producer.cursor = match + 1 == MATCHES_PER_PRODUCER ? 0 : match + 1;
+        return ring.ingestor.updateScore(producer.homeTeams[match], producer.awayTeams[match], producer.goals++ & 15, 0);
+    }
+}
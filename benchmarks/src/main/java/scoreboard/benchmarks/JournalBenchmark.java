@@ -0,0 +1,95 @@
+package scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scoreboard.ScoreBoard;
+import scoreboard.SimpleScoreBoard;
+import scoreboard.journal.EventJournal;
+import scoreboard.journal.JournaledScoreBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of journalling a score update, and of replaying a journal of {@code size} matches that
+ * were each started and updated ten times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class JournalBenchmark {
+
+    private static final int UPDATES_PER_MATCH = 10;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private Path directory;
+    private Path replayDirectory;
+    private JournaledScoreBoard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int cursor;
+    private int goals;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        homeTeams = Boards.teams("Home", size);
+        awayTeams = Boards.teams("Away", size);
+        board = JournaledScoreBoard.open(new SimpleScoreBoard(), directory.resolve("live"));
+        Boards.fill(board, homeTeams, awayTeams);
+
+        replayDirectory = directory.resolve("replay");
+        try (JournaledScoreBoard recorded = JournaledScoreBoard.open(new SimpleScoreBoard(), replayDirectory)) {
+            Boards.fill(recorded, homeTeams, awayTeams);
+            for (int round = 0; round < UPDATES_PER_MATCH; round++) {
+                for (int i = 0; i < size; i++) {
+                    recorded.updateScore(homeTeams[i], awayTeams[i], round, i & 3);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        board.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void journaledUpdateScore() {
+        int match = cursor;
+        cursor = match + 1 == size ? 0 : match + 1;
+        board.updateScore(homeTeams[match], awayTeams[match], goals++ & 15, match & 3);
+    }
+
+    @Benchmark
+    public ScoreBoard replay() throws IOException {
+        ScoreBoard restored = new SimpleScoreBoard();
+        EventJournal.replay(replayDirectory, restored);
+        return restored;
+    }
+}
@@ -0,0 +1,97 @@
+package scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scoreboard.registry.ScoreBoardRegistry;
+import scoreboard.registry.TournamentMatch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry throughput with four clients, each pipelining score updates to its own tournament.
+ * Comparing shard counts shows how far updates scale with the shards serving them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@Threads(4)
+public class RegistryBenchmark {
+
+    private static final int MATCHES = 100;
+    private static final int PIPELINE = 64;
+
+    @State(Scope.Benchmark)
+    public static class Registry {
+
+        @Param({"1", "4"})
+        int shards;
+
+        ScoreBoardRegistry registry;
+        final AtomicInteger tournaments = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            registry = new ScoreBoardRegistry(shards);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            registry.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        String tournament;
+        String[] homeTeams;
+        String[] awayTeams;
+        int goals;
+
+        @Setup(Level.Trial)
+        public void setUp(Registry state) {
+            tournament = "tournament-" + state.tournaments.getAndIncrement();
+            homeTeams = Boards.teams("Home", MATCHES);
+            awayTeams = Boards.teams("Away", MATCHES);
+            state.registry.createBoard(tournament).join();
+            state.registry.execute(tournament, board -> {
+                Boards.fill(board, homeTeams, awayTeams);
+                return null;
+            }).join();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE)
+    public void updateScore(Registry state, Client client) {
+        CompletableFuture<?>[] updates = new CompletableFuture<?>[PIPELINE];
+        for (int i = 0; i < PIPELINE; i++) {
+            int match = i % MATCHES;
+            updates[i] = state.registry.updateScore(client.tournament, client.homeTeams[match], client.awayTeams[match], client.goals++ & 15, 0);
+        }
+        CompletableFuture.allOf(updates).join();
+    }
+
+    @Benchmark
+    public List<TournamentMatch> getTopMatches(Registry state) {
+        return state.registry.getTopMatches(10).join();
+    }
+}
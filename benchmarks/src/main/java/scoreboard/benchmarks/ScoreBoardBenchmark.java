@@ -0,0 +1,113 @@
+package scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.SummaryCursor;
+import scoreboard.SummaryDelta;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of every board operation at a steady board size. Starting and finishing are
+ * measured as one pair so the board never grows or shrinks between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@Threads(1)
+@State(Scope.Thread)
+public class ScoreBoardBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    @Param({Boards.SIMPLE, Boards.CONCURRENT, Boards.INSTRUMENTED})
+    String implementation;
+
+    private ScoreBoard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int cursor;
+    private int goals;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = Boards.create(implementation);
+        homeTeams = Boards.teams("Home", size);
+        awayTeams = Boards.teams("Away", size);
+        Boards.fill(board, homeTeams, awayTeams);
+    }
+
+    @Benchmark
+    public void updateScore() {
+        int match = nextMatch();
+        board.updateScore(homeTeams[match], awayTeams[match], goals++ & 15, match & 3);
+    }
+
+    @Benchmark
+    public void startNewMatchAndFinishMatch() {
+        int match = nextMatch();
+        board.finishMatch(homeTeams[match], awayTeams[match]);
+        board.startNewMatch(homeTeams[match], awayTeams[match]);
+    }
+
+    @Benchmark
+    public List<Match> getSummary() {
+        return board.getSummary();
+    }
+
+    @Benchmark
+    public long walkSummaryCursor() {
+        long total = 0;
+        SummaryCursor summary = board.summaryCursor();
+        while (summary.next()) {
+            total += summary.homeScore() + summary.awayScore();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public List<Match> getTopMatches() {
+        return board.getTopMatches(10);
+    }
+
+    @Benchmark
+    public ByteBuffer getSummaryBinary() {
+        return board.getSummaryBinary();
+    }
+
+    @Benchmark
+    public String renderSummary() {
+        return board.renderSummary();
+    }
+
+    @Benchmark
+    public SummaryDelta updateScoreAndGetSummaryDelta() {
+        long version = board.getVersion();
+        updateScore();
+        return board.getSummaryDelta(version);
+    }
+
+    private int nextMatch() {
+        int match = cursor;
+        cursor = match + 1 == size ? 0 : match + 1;
+        return match;
+    }
+}
@@ -0,0 +1,4 @@
+package scoreboard;
+
+public record BatchFailure(int index, ScoreEvent event, RuntimeException error) {
+}
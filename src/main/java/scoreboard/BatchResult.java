@@ -0,0 +1,14 @@
+package scoreboard;
+
+import java.util.List;
+
+public record BatchResult(int appliedCount, List<BatchFailure> failures) {
+
+    public BatchResult {
+        failures = List.copyOf(failures);
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,46 @@
+package scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Batches {
+
+    static RuntimeException[] validate(List<? extends ScoreEvent> events) {
+        RuntimeException[] errors = new RuntimeException[events.size()];
+        for (int i = 0; i < errors.length; i++) {
+            ScoreEvent event = events.get(i);
+            if (event == null) {
+                errors[i] = new RejectedArgumentException(RejectionReason.NULL_EVENT, Constants.ERR_NULL_EVENT);
+                continue;
+            }
+            try {
+                event.validate();
+            } catch (IllegalArgumentException e) {
+                errors[i] = e;
+            }
+        }
+        return errors;
+    }
+
+    static void apply(ScoreBoard board, ScoreEvent event) {
+        switch (event) {
+            case ScoreEvent.StartMatch start -> board.startNewMatch(start.homeTeam(), start.awayTeam());
+            case ScoreEvent.UpdateScore update -> board.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+            case ScoreEvent.FinishMatch finish -> board.finishMatch(finish.homeTeam(), finish.awayTeam());
+        }
+    }
+
+    static BatchResult result(List<? extends ScoreEvent> events, RuntimeException[] errors) {
+        List<BatchFailure> failures = new ArrayList<>();
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                failures.add(new BatchFailure(i, events.get(i), errors[i]));
+            }
+        }
+        return new BatchResult(events.size() - failures.size(), failures);
+    }
+
+    private Batches() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,106 @@
+package scoreboard;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded ring of the last changes of a board, one entry per version. Entries are kept as primitive
+ * fields, so recording a change allocates nothing; {@link #since(long, long)} turns the entries a
+ * client has not seen into a {@link SummaryDelta}.
+ * <p>
+ * The log takes no locks. An entry's fields are written first and its version last, with a release
+ * store, and readers load the version with an acquire load before they read the fields, so a reader
+ * that finds the version it expects also sees the fields recorded with it. This does not stop a
+ * writer from overwriting a slot while a reader is in it; {@link ConcurrentScoreBoard} therefore
+ * only trusts a delta built while no write was in progress, and a single-threaded board never has
+ * both at once.
+ */
+final class ChangeLog {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    static final byte STARTED = 0;
+    static final byte RESCORED = 1;
+    static final byte FINISHED = 2;
+
+    private static final VarHandle VERSIONS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int mask;
+    private final long[] versions;
+    private final byte[] kinds;
+    private final long[] sequences;
+    private final String[] homeTeams;
+    private final String[] awayTeams;
+    private final long[] scores;
+    private final long[] startTimes;
+
+    /**
+     * @param capacity number of versions kept, a power of two
+     */
+    ChangeLog(int capacity) {
+        this.mask = capacity - 1;
+        this.versions = new long[capacity];
+        this.kinds = new byte[capacity];
+        this.sequences = new long[capacity];
+        this.homeTeams = new String[capacity];
+        this.awayTeams = new String[capacity];
+        this.scores = new long[capacity];
+        this.startTimes = new long[capacity];
+    }
+
+    void record(long version, byte kind, Match match) {
+        record(version, kind, match.getSequence(), match.getHomeTeam(), match.getAwayTeam(), match.getScore(), match.getStartTime());
+    }
+
+    void record(long version, byte kind, long sequence, String homeTeam, String awayTeam, long score, long startTime) {
+        int slot = (int) version & mask;
+        kinds[slot] = kind;
+        sequences[slot] = sequence;
+        homeTeams[slot] = homeTeam;
+        awayTeams[slot] = awayTeam;
+        scores[slot] = score;
+        startTimes[slot] = startTime;
+        VERSIONS.setRelease(versions, slot, version);
+    }
+
+    /**
+     * Returns the changes after {@code sinceVersion} up to {@code version}, or {@code null} if some
+     * of them have already been overwritten.
+     */
+    SummaryDelta since(long sinceVersion, long version) {
+        if (sinceVersion < 0 || sinceVersion > version || version - sinceVersion > versions.length) {
+            return null;
+        }
+
+        Map<Long, Integer> latestBySequence = new LinkedHashMap<>();
+        Map<Long, Boolean> startedInDelta = new HashMap<>();
+        for (long v = sinceVersion + 1; v <= version; v++) {
+            int slot = (int) v & mask;
+            if ((long) VERSIONS.getAcquire(versions, slot) != v) {
+                return null;
+            }
+            latestBySequence.put(sequences[slot], slot);
+            startedInDelta.putIfAbsent(sequences[slot], kinds[slot] == STARTED);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        List<Match> removed = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : latestBySequence.entrySet()) {
+            int slot = entry.getValue();
+            Match match = new Match(homeTeams[slot], awayTeams[slot], scores[slot], startTimes[slot], sequences[slot]);
+            if (kinds[slot] != FINISHED) {
+                matches.add(match);
+            } else if (!startedInDelta.get(entry.getKey())) {
+                removed.add(match);
+            }
+        }
+        matches.sort(Match.SUMMARY_ORDER);
+        return new SummaryDelta(version, false, Collections.unmodifiableList(matches), Collections.unmodifiableList(removed));
+    }
+}
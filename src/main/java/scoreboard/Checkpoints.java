@@ -0,0 +1,118 @@
+package scoreboard;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binary checkpoint of the ongoing matches. A 16-byte header holds the magic number, the format
+ * version, the match count and the body length; the body lists the matches in start order, each as
+ * length-prefixed UTF-8 team names, both scores and the start time.
+ */
+final class Checkpoints {
+
+    static final int MAGIC = 0x53424350;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private static final int FIXED_MATCH_SIZE = 4 * Integer.BYTES + Long.BYTES;
+
+    static void write(SummarySnapshot snapshot, WritableByteChannel channel) throws IOException {
+        List<Match> matches = new ArrayList<>(snapshot.getMatches());
+        matches.sort((first, second) -> Long.compare(first.getSequence(), second.getSequence()));
+
+        byte[][] names = new byte[matches.size() * 2][];
+        int bodyLength = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            names[2 * i] = matches.get(i).getHomeTeam().getBytes(StandardCharsets.UTF_8);
+            names[2 * i + 1] = matches.get(i).getAwayTeam().getBytes(StandardCharsets.UTF_8);
+            bodyLength += FIXED_MATCH_SIZE + names[2 * i].length + names[2 * i + 1].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodyLength);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(matches.size()).putInt(bodyLength);
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            buffer.putInt(names[2 * i].length).put(names[2 * i])
+                    .putInt(names[2 * i + 1].length).put(names[2 * i + 1])
+                    .putInt(match.getHomeTeamPoints()).putInt(match.getAwayTeamPoints())
+                    .putLong(match.getStartTime());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a whole checkpoint and returns its matches in start order, each with a fresh sequence.
+     * Nothing is returned unless the checkpoint is complete and describes a valid board.
+     */
+    static List<Match> read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, HEADER_SIZE);
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT);
+        }
+        int formatVersion = header.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException(String.format(Constants.ERR_UNSUPPORTED_CHECKPOINT_VERSION, formatVersion));
+        }
+        int count = header.getInt();
+        int bodyLength = header.getInt();
+        if (count < 0 || bodyLength < 0 || (long) count * FIXED_MATCH_SIZE > bodyLength) {
+            throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT);
+        }
+
+        ByteBuffer body = readFully(channel, bodyLength);
+        List<Match> matches = new ArrayList<>(count);
+        Set<String> playingTeams = new HashSet<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                String homeTeam = readName(body);
+                String awayTeam = readName(body);
+                Match match = new Match(homeTeam, awayTeam, body.getInt(), body.getInt(), body.getLong());
+                if (!playingTeams.add(homeTeam) || !playingTeams.add(awayTeam)) {
+                    throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT);
+                }
+                matches.add(match);
+            }
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT, e);
+        }
+        if (body.hasRemaining()) {
+            throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT);
+        }
+        return matches;
+    }
+
+    private static String readName(ByteBuffer body) {
+        int length = body.getInt();
+        if (length < 0 || length > body.remaining()) {
+            throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT);
+        }
+        String name = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return name;
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IllegalStateException(Constants.ERR_CORRUPT_CHECKPOINT);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private Checkpoints() {
+        // Prevent instantiation
+    }
+}
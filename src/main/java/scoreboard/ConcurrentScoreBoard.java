@@ -0,0 +1,419 @@
+package scoreboard;
+
+import scoreboard.common.LockStripes;
+import scoreboard.event.MatchEvent;
+import scoreboard.event.MatchEventPublisher;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static scoreboard.common.Validators.validateName;
+import static scoreboard.common.Validators.validateNames;
+import static scoreboard.common.Validators.validateScores;
+
+/**
+ * Thread-safe {@link ScoreBoard}. Every team hashes to one of a fixed number of {@link LockStripes},
+ * so operations on matches whose teams fall on different stripes never contend. Starting or
+ * finishing a match holds the stripes of both teams, which keeps the "game exists" and "team
+ * already playing" rules atomic.
+ * <p>
+ * The summary order is kept in a {@link PersistentSummaryTree} that writers publish themselves:
+ * every change path-copies the current tree into the next version and installs it with a single
+ * compare-and-set, so {@link #getSnapshot()} is one volatile read, and pages and positions are
+ * read from the published tree in O(log n) without copying the board.
+ * <p>
+ * Every score change of a match, including increments and compare-and-set, runs under the stripe
+ * of its home team, so concurrent feeds never lose each other's goals.
+ * <p>
+ * Writers also count every change as started and completed around keeping it in the
+ * {@link ChangeLog}. A delta is only built while no writer is active, seqlock style, with an acquire
+ * fence between reading the log and checking the counters again; after a few contended attempts the
+ * reader gets the full published summary instead of blocking writers.
+ * <p>
+ * {@link #applyBatch(List)} holds every stripe for the whole batch, applies the events to a private
+ * copy of the tree and publishes the result once at the end, so readers see either none or all of
+ * a batch and the board pays one publication instead of one compare-and-set per event.
+ * <p>
+ * {@link MatchEvent}s are handed to the publisher while the match's stripes are held, so they keep
+ * the order of the changes, but their positions are only computed on the event executor, from the
+ * published tree versions right before and after the change.
+ */
+public class ConcurrentScoreBoard implements ScoreBoard {
+
+    static final int DEFAULT_OPTIMISTIC_DELTA_ATTEMPTS = 8;
+
+    private final Map<String, Match> matchesByTeam;
+    private final AtomicReference<PersistentSummaryTree> summary;
+    private final LockStripes stripes;
+    private final int optimisticDeltaAttempts;
+    private final AtomicLong startedWrites;
+    private final AtomicLong completedWrites;
+    private final MatchEventPublisher events;
+    private final SummaryRenderer renderer;
+    private final ChangeLog changeLog;
+    private PersistentSummaryTree batchTree;
+
+    public ConcurrentScoreBoard() {
+        this(LockStripes.DEFAULT_STRIPES);
+    }
+
+    public ConcurrentScoreBoard(int stripeCount) {
+        this(stripeCount, ForkJoinPool.commonPool());
+    }
+
+    public ConcurrentScoreBoard(int stripeCount, Executor eventExecutor) {
+        this(stripeCount, eventExecutor, DEFAULT_OPTIMISTIC_DELTA_ATTEMPTS);
+    }
+
+    ConcurrentScoreBoard(int stripeCount, Executor eventExecutor, int optimisticDeltaAttempts) {
+        this.stripes = new LockStripes(stripeCount);
+        this.matchesByTeam = new ConcurrentHashMap<>();
+        this.summary = new AtomicReference<>(PersistentSummaryTree.EMPTY);
+        this.startedWrites = new AtomicLong();
+        this.completedWrites = new AtomicLong();
+        this.events = new MatchEventPublisher(eventExecutor);
+        this.renderer = new SummaryRenderer();
+        this.changeLog = new ChangeLog(ChangeLog.DEFAULT_CAPACITY);
+        this.optimisticDeltaAttempts = optimisticDeltaAttempts;
+    }
+
+    @Override
+    public void startNewMatch(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        stripes.lock(homeTeam, awayTeam);
+        try {
+            if (findOngoingMatch(homeTeam, awayTeam) != null) {
+                throw new RejectedArgumentException(RejectionReason.GAME_EXISTS, String.format(Constants.ERR_GAME_EXISTS, homeTeam, awayTeam));
+            }
+
+            if (isAnyTeamAlreadyPlaying(homeTeam, awayTeam)) {
+                throw new RejectedStateException(RejectionReason.TEAMS_PLAYING, Constants.ERR_TEAMS_PLAYING);
+            }
+
+            Match match = new Match(homeTeam, awayTeam);
+            Match published = new Match(match);
+            Change change;
+            startedWrites.incrementAndGet();
+            try {
+                matchesByTeam.put(homeTeam, match);
+                matchesByTeam.put(awayTeam, match);
+                change = publish(tree -> tree.with(published));
+                changeLog.record(change.after().version(), ChangeLog.STARTED, match);
+            } finally {
+                completedWrites.incrementAndGet();
+            }
+            if (events.hasSubscribers()) {
+                PersistentSummaryTree after = change.after();
+                events.publish(() -> new MatchEvent.MatchStarted(published, after.rank(SummaryKey.of(published))));
+            }
+        } finally {
+            stripes.unlock(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        validateNames(homeTeam, awayTeam);
+        validateScores(homeScore, awayScore);
+
+        stripes.lock(homeTeam);
+        try {
+            rescore(requireOngoingMatch(homeTeam, awayTeam), homeScore, awayScore);
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    @Override
+    public void incrementHomeGoal(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        stripes.lock(homeTeam);
+        try {
+            Match match = requireOngoingMatch(homeTeam, awayTeam);
+            long score = match.getScore();
+            rescore(match, Match.homeOf(score) + 1, Match.awayOf(score));
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    @Override
+    public void incrementAwayGoal(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        stripes.lock(homeTeam);
+        try {
+            Match match = requireOngoingMatch(homeTeam, awayTeam);
+            long score = match.getScore();
+            rescore(match, Match.homeOf(score), Match.awayOf(score) + 1);
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        validateNames(homeTeam, awayTeam);
+        validateScores(homeScore, awayScore);
+
+        stripes.lock(homeTeam);
+        try {
+            Match match = requireOngoingMatch(homeTeam, awayTeam);
+            if (match.getScore() != Match.pack(expectedHomeScore, expectedAwayScore)) {
+                return false;
+            }
+            rescore(match, homeScore, awayScore);
+            return true;
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        stripes.lock(homeTeam, awayTeam);
+        try {
+            Match match = requireOngoingMatch(homeTeam, awayTeam);
+            SummaryKey key = SummaryKey.of(match);
+            Change change;
+            startedWrites.incrementAndGet();
+            try {
+                change = publish(tree -> tree.without(key));
+                matchesByTeam.remove(homeTeam);
+                matchesByTeam.remove(awayTeam);
+                changeLog.record(change.after().version(), ChangeLog.FINISHED, match);
+            } finally {
+                completedWrites.incrementAndGet();
+            }
+            events.finished(match);
+            if (events.hasSubscribers()) {
+                PersistentSummaryTree before = change.before();
+                events.publish(() -> new MatchEvent.MatchFinished(match, before.rank(key)));
+            }
+        } finally {
+            stripes.unlock(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public BatchResult applyBatch(List<? extends ScoreEvent> events) {
+        RuntimeException[] errors = Batches.validate(events);
+        stripes.lockAll();
+        startedWrites.incrementAndGet();
+        try {
+            batchTree = summary.get();
+            for (int i = 0; i < errors.length; i++) {
+                if (errors[i] == null) {
+                    try {
+                        Batches.apply(this, events.get(i));
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        errors[i] = e;
+                    }
+                }
+            }
+        } finally {
+            summary.set(batchTree);
+            batchTree = null;
+            completedWrites.incrementAndGet();
+            stripes.unlockAll();
+        }
+        return Batches.result(events, errors);
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return getSnapshot().getMatches();
+    }
+
+    @Override
+    public SummarySnapshot getSnapshot() {
+        return summary.get().snapshot();
+    }
+
+    @Override
+    public long getVersion() {
+        return summary.get().version();
+    }
+
+    @Override
+    public int getMatchCount() {
+        return summary.get().size();
+    }
+
+    @Override
+    public SummaryDelta getSummaryDelta(long sinceVersion) {
+        for (int attempt = 0; attempt < optimisticDeltaAttempts; attempt++) {
+            long completed = completedWrites.get();
+            if (startedWrites.get() == completed) {
+                PersistentSummaryTree tree = summary.get();
+                SummaryDelta delta = changeLog.since(sinceVersion, tree.version());
+                VarHandle.acquireFence();
+                if (startedWrites.get() == completed) {
+                    return delta != null ? delta : SummaryDelta.full(tree.snapshot());
+                }
+            }
+            Thread.onSpinWait();
+        }
+        return SummaryDelta.full(getSnapshot());
+    }
+
+    @Override
+    public List<Match> getSummaryPage(int offset, int limit) {
+        if (offset < 0) {
+            throw new RejectedArgumentException(RejectionReason.NEGATIVE_OFFSET, Constants.ERR_NEGATIVE_OFFSET);
+        }
+        if (limit < 0) {
+            throw new RejectedArgumentException(RejectionReason.NEGATIVE_LIMIT, Constants.ERR_NEGATIVE_LIMIT);
+        }
+
+        return summary.get().page(offset, limit);
+    }
+
+    @Override
+    public String renderSummary() {
+        return renderer.render(getSnapshot());
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> changes() {
+        return events;
+    }
+
+    @Override
+    public void addFinishListener(Consumer<? super Match> listener) {
+        events.addFinishListener(listener);
+    }
+
+    @Override
+    public void restore(ReadableByteChannel channel) throws IOException {
+        stripes.lockAll();
+        try {
+            if (!matchesByTeam.isEmpty()) {
+                throw new IllegalStateException(Constants.ERR_RESTORE_INTO_NON_EMPTY_BOARD);
+            }
+
+            List<Match> matches = Checkpoints.read(channel);
+            List<Match> published = matches.stream().map(Match::new).toList();
+            startedWrites.addAndGet(matches.size());
+            try {
+                for (int i = 0; i < matches.size(); i++) {
+                    Match match = matches.get(i);
+                    Match copy = published.get(i);
+                    matchesByTeam.put(match.getHomeTeam(), match);
+                    matchesByTeam.put(match.getAwayTeam(), match);
+                    long version = publish(tree -> tree.with(copy)).after().version();
+                    changeLog.record(version, ChangeLog.STARTED, match);
+                }
+            } finally {
+                completedWrites.addAndGet(matches.size());
+            }
+            if (events.hasSubscribers()) {
+                PersistentSummaryTree tree = summary.get();
+                for (Match match : published) {
+                    events.publish(() -> new MatchEvent.MatchStarted(match, tree.rank(SummaryKey.of(match))));
+                }
+            }
+        } finally {
+            stripes.unlockAll();
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        validateName(team);
+
+        return Optional.ofNullable(matchesByTeam.get(team)).map(Match::new);
+    }
+
+    /**
+     * Sets the score of a match whose home stripe is held by the caller.
+     */
+    private void rescore(Match match, int homeScore, int awayScore) {
+        validateScores(homeScore, awayScore);
+
+        SummaryKey previousKey = SummaryKey.of(match);
+        long previousScore = match.getScore();
+        Match published;
+        Change change;
+        startedWrites.incrementAndGet();
+        try {
+            match.updateScore(homeScore, awayScore);
+            published = new Match(match);
+            change = publish(tree -> tree.replace(previousKey, published));
+            changeLog.record(change.after().version(), ChangeLog.RESCORED, match);
+        } finally {
+            completedWrites.incrementAndGet();
+        }
+        if (events.hasSubscribers()) {
+            PersistentSummaryTree before = change.before();
+            PersistentSummaryTree after = change.after();
+            events.publish(() -> new MatchEvent.ScoreChanged(published, Match.homeOf(previousScore), Match.awayOf(previousScore),
+                    before.rank(previousKey), after.rank(SummaryKey.of(published))));
+        }
+    }
+
+    /**
+     * Applies a change to the published summary, retrying on top of changes other writers published
+     * meanwhile. Changes of one match are serialized by its stripes, so the order in which
+     * different matches win the race does not matter.
+     * <p>
+     * During {@link #applyBatch(List)} the change goes to the batch's private tree instead. That tree
+     * is only set while the batch holds every stripe, and any other writer holds at least one, so
+     * it is never seen by anyone but the batch.
+     */
+    private Change publish(UnaryOperator<PersistentSummaryTree> change) {
+        if (batchTree != null) {
+            PersistentSummaryTree before = batchTree;
+            batchTree = change.apply(before);
+            return new Change(before, batchTree);
+        }
+
+        PersistentSummaryTree before;
+        PersistentSummaryTree after;
+        do {
+            before = summary.get();
+            after = change.apply(before);
+        } while (!summary.compareAndSet(before, after));
+        return new Change(before, after);
+    }
+
+    private boolean isAnyTeamAlreadyPlaying(String home, String away) {
+        return matchesByTeam.containsKey(home) || matchesByTeam.containsKey(away);
+    }
+
+    private Match requireOngoingMatch(String home, String away) {
+        Match match = findOngoingMatch(home, away);
+        if (match == null) {
+            throw new RejectedArgumentException(RejectionReason.GAME_NOT_FOUND, String.format(Constants.ERR_GAME_NOT_FOUND, home, away));
+        }
+        return match;
+    }
+
+    private Match findOngoingMatch(String home, String away) {
+        Match match = matchesByTeam.get(home);
+        if (match == null || !match.getHomeTeam().equals(home) || !match.getAwayTeam().equals(away)) {
+            return null;
+        }
+        return match;
+    }
+
+    private record Change(PersistentSummaryTree before, PersistentSummaryTree after) {
+    }
+}
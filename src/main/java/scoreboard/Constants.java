@@ -2,16 +2,38 @@ package scoreboard;
 
 public class Constants {
 
-    public static final String KEY_SEPARATOR = "-";
-
-
     public static final String ERR_GAME_EXISTS = "Game between %s and %s already exists.";
     public static final String ERR_SAME_TEAMS = "Team names must be different.";
     public static final String ERR_TEAMS_PLAYING = "One or two of the teams is already playing.";
     public static final String ERR_INVALID_NAMES = "Team names cannot be null or empty";
     public static final String ERR_GAME_NOT_FOUND = "No ongoing game between %s and %s found.";
     public static final String ERR_NEGATIVE_SCORE = "Score cannot be negative";
-    public static final String ERR_INVALID_TEAM_NAME_CHARACTERS = "Team names cannot contain the character '-'";
+    public static final String ERR_NEGATIVE_OFFSET = "Offset cannot be negative";
+    public static final String ERR_NEGATIVE_LIMIT = "Limit cannot be negative";
+    public static final String ERR_NULL_EVENT = "Event cannot be null";
+    public static final String ERR_UNKNOWN_TEAM_ID = "Unknown team id: %d";
+    public static final String ERR_NON_POSITIVE_DEMAND = "Requested demand must be positive";
+    public static final String ERR_INVALID_EVENT_BUFFER_SIZE = "Event buffer size must be positive";
+    public static final String ERR_SUBSCRIBER_OVERFLOW = "Subscriber fell more than %d events behind";
+    public static final String ERR_INVALID_STRIPES = "Number of lock stripes must be positive";
+    public static final String ERR_INVALID_JOURNAL_SETTINGS = "Journal segment size and flush interval must be positive";
+    public static final String ERR_JOURNAL_RECORD_TOO_LARGE = "Journal record does not fit in a segment";
+    public static final String ERR_CORRUPT_JOURNAL = "Journal segment is corrupt: %s";
+    public static final String ERR_JOURNAL_CLOSED = "Journal is closed";
+    public static final String ERR_CORRUPT_CHECKPOINT = "Checkpoint is corrupt";
+    public static final String ERR_UNSUPPORTED_CHECKPOINT_VERSION = "Unsupported checkpoint format version: %d";
+    public static final String ERR_INVALID_SHARDS = "Number of shards must be positive";
+    public static final String ERR_INVALID_TOURNAMENT_ID = "Tournament id cannot be null or empty";
+    public static final String ERR_TOURNAMENT_EXISTS = "Scoreboard for tournament %s already exists.";
+    public static final String ERR_TOURNAMENT_NOT_FOUND = "No scoreboard for tournament %s found.";
+    public static final String ERR_REGISTRY_CLOSED = "Registry is closed";
+    public static final String ERR_INVALID_ARCHIVE_CHUNK = "Archive chunk size must be positive";
+    public static final String ERR_INVALID_RING_SETTINGS = "Ring capacity must be a positive power of two and batch size positive";
+    public static final String ERR_INGESTOR_CLOSED = "Ingestor is closed";
+    public static final String ERR_MALFORMED_FEED_RECORD = "Malformed feed record at line %d";
+    public static final String ERR_INVALID_BATCH_SIZE = "Batch size must be positive";
+    public static final String ERR_STALE_SUMMARY_CURSOR = "Board changed while the summary cursor was in use";
+    public static final String ERR_RESTORE_INTO_NON_EMPTY_BOARD = "A checkpoint can only be restored into an empty board";
 
     private Constants() {
         // Prevent instantiation
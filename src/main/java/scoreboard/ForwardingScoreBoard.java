@@ -0,0 +1,88 @@
+package scoreboard;
+
+import scoreboard.event.MatchEvent;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Base for decorators: every read goes to the wrapped board, so a subclass only implements the
+ * operations that change the board and overrides the reads it wants to intercept.
+ */
+public abstract class ForwardingScoreBoard implements ScoreBoard {
+
+    protected final ScoreBoard delegate;
+
+    protected ForwardingScoreBoard(ScoreBoard delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return delegate.getSummary();
+    }
+
+    @Override
+    public SummarySnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public int getMatchCount() {
+        return delegate.getMatchCount();
+    }
+
+    @Override
+    public SummaryDelta getSummaryDelta(long sinceVersion) {
+        return delegate.getSummaryDelta(sinceVersion);
+    }
+
+    @Override
+    public SummaryCursor summaryCursor() {
+        return delegate.summaryCursor();
+    }
+
+    @Override
+    public List<Match> getSummaryPage(int offset, int limit) {
+        return delegate.getSummaryPage(offset, limit);
+    }
+
+    @Override
+    public List<Match> getTopMatches(int limit) {
+        return delegate.getTopMatches(limit);
+    }
+
+    @Override
+    public String renderSummary() {
+        return delegate.renderSummary();
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        return delegate.findMatchByTeam(team);
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> changes() {
+        return delegate.changes();
+    }
+
+    @Override
+    public void addFinishListener(Consumer<? super Match> listener) {
+        delegate.addFinishListener(listener);
+    }
+
+    @Override
+    public void writeCheckpoint(WritableByteChannel channel) throws IOException {
+        delegate.writeCheckpoint(channel);
+    }
+}
@@ -1,49 +1,106 @@
 package scoreboard;
 
-import static scoreboard.common.Validators.validateNames;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static scoreboard.common.Validators.validateNames;
+import static scoreboard.common.Validators.validateScores;
 
+/**
+ * Both scores are packed into one volatile {@code long}, so a reader always sees the home and away
+ * score of the same update.
+ */
 public class Match {
 
+    /**
+     * Summary order: the higher total score first, then the most recently started. Start order is
+     * taken from a sequence shared by all boards of the JVM, so matches of different boards compare
+     * consistently even when their start times are equal.
+     */
+    public static final Comparator<Match> SUMMARY_ORDER = Comparator.comparingInt(Match::getTotalScore)
+            .thenComparingLong(Match::getSequence)
+            .reversed();
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
     private final String homeTeam;
     private final String awayTeam;
-    private int homeTeamPoints;
-    private int awayTeamPoints;
+    private volatile long score;
     private final long startTime;
+    private final long sequence;
 
     public Match(String homeTeam, String awayTeam) {
         validateNames(homeTeam, awayTeam);
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.homeTeamPoints = 0;
-        this.awayTeamPoints = 0;
         this.startTime = System.nanoTime();
+        this.sequence = nextSequence();
+    }
+
+    Match(String homeTeam, String awayTeam, int homeTeamPoints, int awayTeamPoints, long startTime) {
+        validateNames(homeTeam, awayTeam);
+        validateScores(homeTeamPoints, awayTeamPoints);
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.score = pack(homeTeamPoints, awayTeamPoints);
+        this.startTime = startTime;
+        this.sequence = nextSequence();
+    }
+
+    Match(String homeTeam, String awayTeam, long score, long startTime, long sequence) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.score = score;
+        this.startTime = startTime;
+        this.sequence = sequence;
     }
 
-    public void updateScore(int homeTeamPoints, int awayTeamPoints) {
-        if (homeTeamPoints < 0 || awayTeamPoints < 0) {
-            throw new IllegalArgumentException(Constants.ERR_NEGATIVE_SCORE);
-        }
-        this.homeTeamPoints = homeTeamPoints;
-        this.awayTeamPoints = awayTeamPoints;
+    void updateScore(int homeTeamPoints, int awayTeamPoints) {
+        validateScores(homeTeamPoints, awayTeamPoints);
+        this.score = pack(homeTeamPoints, awayTeamPoints);
+    }
+
+    long getScore() {
+        return score;
     }
 
     public int getTotalScore() {
-        return homeTeamPoints + awayTeamPoints;
+        long current = score;
+        return homeOf(current) + awayOf(current);
     }
 
     public int getHomeTeamPoints() {
-        return homeTeamPoints;
+        return homeOf(score);
     }
 
     public int getAwayTeamPoints() {
-        return awayTeamPoints;
+        return awayOf(score);
+    }
+
+    static long pack(int homeTeamPoints, int awayTeamPoints) {
+        return (long) homeTeamPoints << 32 | (awayTeamPoints & 0xFFFFFFFFL);
+    }
+
+    static int homeOf(long score) {
+        return (int) (score >>> 32);
+    }
+
+    static int awayOf(long score) {
+        return (int) score;
     }
 
     public long getStartTime() {
         return startTime;
     }
 
+    long getSequence() {
+        return sequence;
+    }
+
+    static long nextSequence() {
+        return SEQUENCE.incrementAndGet();
+    }
+
     public String getHomeTeam() {
         return homeTeam;
     }
@@ -55,9 +112,9 @@ public class Match {
     public Match(Match source) {
         this.homeTeam = source.homeTeam;
         this.awayTeam = source.awayTeam;
-        this.homeTeamPoints = source.homeTeamPoints;
-        this.awayTeamPoints = source.awayTeamPoints;
+        this.score = source.score;
         this.startTime = source.startTime;
+        this.sequence = source.sequence;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package scoreboard;
+
+import java.util.Iterator;
+import java.util.List;
+
+final class MatchListCursor implements SummaryCursor {
+
+    private final Iterator<Match> matches;
+    private Match match;
+
+    MatchListCursor(List<Match> matches) {
+        this.matches = matches.iterator();
+    }
+
+    @Override
+    public boolean next() {
+        if (!matches.hasNext()) {
+            return false;
+        }
+        match = matches.next();
+        return true;
+    }
+
+    @Override
+    public String homeTeam() {
+        return match.getHomeTeam();
+    }
+
+    @Override
+    public String awayTeam() {
+        return match.getAwayTeam();
+    }
+
+    @Override
+    public int homeScore() {
+        return match.getHomeTeamPoints();
+    }
+
+    @Override
+    public int awayScore() {
+        return match.getAwayTeamPoints();
+    }
+
+    @Override
+    public long startTime() {
+        return match.getStartTime();
+    }
+}
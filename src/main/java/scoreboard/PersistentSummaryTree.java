@@ -0,0 +1,250 @@
+package scoreboard;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable order-statistic treap of the matches of one board version, ordered by
+ * {@link SummaryKey}. A change returns a new tree with the next version that shares every untouched
+ * node with the old one, so publishing a change copies one path of O(log n) nodes, and readers keep
+ * whatever version they hold. Priorities are derived from the match sequence, so the shape of a
+ * tree only depends on the matches it holds.
+ * <p>
+ * The matches in the tree must not change after they were added.
+ */
+final class PersistentSummaryTree {
+
+    static final PersistentSummaryTree EMPTY = new PersistentSummaryTree(0, null);
+
+    private static final int INITIAL_WALK_DEPTH = 8;
+
+    private final long version;
+    private final Node root;
+    private final SummarySnapshot snapshot;
+
+    private PersistentSummaryTree(long version, Node root) {
+        this.version = version;
+        this.root = root;
+        this.snapshot = new SummarySnapshot(version, new Matches(root));
+    }
+
+    long version() {
+        return version;
+    }
+
+    SummarySnapshot snapshot() {
+        return snapshot;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    PersistentSummaryTree with(Match match) {
+        return new PersistentSummaryTree(version + 1, insert(root, leaf(match)));
+    }
+
+    PersistentSummaryTree without(SummaryKey key) {
+        return new PersistentSummaryTree(version + 1, remove(root, key));
+    }
+
+    /**
+     * Replaces the match stored under {@code key} by {@code match}, which may have a different key.
+     */
+    PersistentSummaryTree replace(SummaryKey key, Match match) {
+        return new PersistentSummaryTree(version + 1, insert(remove(root, key), leaf(match)));
+    }
+
+    /**
+     * Returns the position of the match stored under {@code key}.
+     */
+    int rank(SummaryKey key) {
+        int rank = 0;
+        Node node = root;
+        int order;
+        while ((order = key.compareTo(node.key)) != 0) {
+            if (order < 0) {
+                node = node.left;
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank + sizeOf(node.left);
+    }
+
+    /**
+     * Returns up to {@code limit} matches starting at position {@code offset}, walking only the
+     * requested part of the tree.
+     */
+    List<Match> page(int offset, int limit) {
+        List<Match> page = new ArrayList<>(Math.min(limit, Math.max(size() - offset, 0)));
+        Walk walk = new Walk(root, offset);
+        while (page.size() < limit && walk.hasNext()) {
+            page.add(walk.next());
+        }
+        return page;
+    }
+
+    private static Node leaf(Match match) {
+        return new Node(SummaryKey.of(match), match, priorityOf(match.getSequence()), null, null);
+    }
+
+    private static Node insert(Node tree, Node leaf) {
+        if (tree == null) {
+            return leaf;
+        }
+        if (leaf.key.compareTo(tree.key) < 0) {
+            Node left = insert(tree.left, leaf);
+            return left.priority > tree.priority
+                    ? left.with(left.left, tree.with(left.right, tree.right))
+                    : tree.with(left, tree.right);
+        }
+        Node right = insert(tree.right, leaf);
+        return right.priority > tree.priority
+                ? right.with(tree.with(tree.left, right.left), right.right)
+                : tree.with(tree.left, right);
+    }
+
+    private static Node remove(Node tree, SummaryKey key) {
+        int order = key.compareTo(tree.key);
+        if (order == 0) {
+            return merge(tree.left, tree.right);
+        }
+        return order < 0 ? tree.with(remove(tree.left, key), tree.right) : tree.with(tree.left, remove(tree.right, key));
+    }
+
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.priority > second.priority
+                ? first.with(first.left, merge(first.right, second))
+                : second.with(merge(first, second.left), second.right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int priorityOf(long sequence) {
+        return (int) ((sequence * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static final class Node {
+
+        private final SummaryKey key;
+        private final Match match;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        private Node(SummaryKey key, Match match, int priority, Node left, Node right) {
+            this.key = key;
+            this.match = match;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+
+        private Node with(Node left, Node right) {
+            return new Node(key, match, priority, left, right);
+        }
+    }
+
+    /**
+     * In-order walk from a position, with the path to the next node kept on a stack.
+     */
+    private static final class Walk implements Iterator<Match> {
+
+        private Node[] stack = new Node[INITIAL_WALK_DEPTH];
+        private int depth;
+
+        private Walk(Node root, int start) {
+            Node node = root;
+            int index = start;
+            while (node != null) {
+                int leftSize = sizeOf(node.left);
+                if (index > leftSize) {
+                    index -= leftSize + 1;
+                    node = node.right;
+                } else {
+                    push(node);
+                    node = index == leftSize ? null : node.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public Match next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack[--depth];
+            for (Node next = node.right; next != null; next = next.left) {
+                push(next);
+            }
+            return node.match;
+        }
+
+        private void push(Node node) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = node;
+        }
+    }
+
+    /**
+     * Read-only list view of one version; positional access costs O(log n), iteration O(1) per match.
+     */
+    private static final class Matches extends AbstractList<Match> {
+
+        private final Node root;
+
+        private Matches(Node root) {
+            this.root = root;
+        }
+
+        @Override
+        public Match get(int index) {
+            Objects.checkIndex(index, size());
+            Node node = root;
+            int leftSize;
+            while (index != (leftSize = sizeOf(node.left))) {
+                if (index < leftSize) {
+                    node = node.left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+            return node.match;
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(root);
+        }
+
+        @Override
+        public Iterator<Match> iterator() {
+            return new Walk(root, 0);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package scoreboard;
+
+public class RejectedArgumentException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final RejectionReason reason;
+
+    public RejectedArgumentException(RejectionReason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public RejectionReason reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,17 @@
+package scoreboard;
+
+/**
+ * Why a board rejected a call. Rejections are thrown as {@link RejectedArgumentException} or
+ * {@link RejectedStateException}, so callers can tell them apart without reading the message.
+ */
+public enum RejectionReason {
+    GAME_EXISTS,
+    SAME_TEAMS,
+    TEAMS_PLAYING,
+    INVALID_NAMES,
+    GAME_NOT_FOUND,
+    NEGATIVE_SCORE,
+    NEGATIVE_OFFSET,
+    NEGATIVE_LIMIT,
+    NULL_EVENT
+}
@@ -1,73 +1,115 @@
 package scoreboard;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import scoreboard.event.MatchEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
-import static scoreboard.Constants.KEY_SEPARATOR;
-import static scoreboard.common.Validators.validateNames;
+public interface ScoreBoard {
 
-public class ScoreBoard {
+    void startNewMatch(String homeTeam, String awayTeam);
 
-    private final Map<String, Match> ongoingMatches;
+    void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore);
 
-    public ScoreBoard() {
-        this.ongoingMatches = new HashMap<>();
-    }
+    void incrementHomeGoal(String homeTeam, String awayTeam);
 
-    public void startNewMatch(String homeTeam, String awayTeam) {
-        validateNames(homeTeam, awayTeam);
+    void incrementAwayGoal(String homeTeam, String awayTeam);
 
-        String key = generateKey(homeTeam, awayTeam);
-        if (ongoingMatches.containsKey(key)) {
-            throw new IllegalArgumentException(String.format(Constants.ERR_GAME_EXISTS, homeTeam, awayTeam));
-        }
+    /**
+     * Sets the score only if the match still has the expected score, and returns whether it did.
+     */
+    boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                               int homeScore, int awayScore);
 
-        if (isAnyTeamAlreadyPlaying(homeTeam, awayTeam)) {
-            throw new IllegalStateException(Constants.ERR_TEAMS_PLAYING);
-        }
+    void finishMatch(String homeTeam, String awayTeam);
+
+    List<Match> getSummary();
 
-        ongoingMatches.put(key, new Match(homeTeam, awayTeam));
+    SummarySnapshot getSnapshot();
+
+    long getVersion();
+
+    /**
+     * Returns the number of ongoing matches without building a snapshot.
+     */
+    int getMatchCount();
+
+    /**
+     * Returns what changed after {@code sinceVersion}, or the full summary if the board no longer
+     * remembers all of those changes.
+     */
+    SummaryDelta getSummaryDelta(long sinceVersion);
+
+    default ByteBuffer getSummaryBinary() {
+        return getSnapshot().getBinary();
     }
 
-    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
-        validateNames(homeTeam, awayTeam);
+    default ByteBuffer getSummaryJson() {
+        return getSnapshot().getJson();
+    }
 
-        if (homeScore < 0 || awayScore < 0) {
-            throw new IllegalArgumentException(Constants.ERR_NEGATIVE_SCORE);
-        }
+    String renderSummary();
 
-        Match match = ongoingMatches.get(generateKey(homeTeam, awayTeam));
-        if (match == null) {
-            throw new IllegalArgumentException(String.format(Constants.ERR_GAME_NOT_FOUND, homeTeam, awayTeam));
-        }
+    default void renderSummary(Appendable out) throws IOException {
+        out.append(renderSummary());
+    }
 
-        match.updateScore(homeScore, awayScore);
+    /**
+     * Returns a cursor over the current summary that reads the matches in place instead of copying
+     * them.
+     */
+    default SummaryCursor summaryCursor() {
+        return new MatchListCursor(getSnapshot().getMatches());
     }
 
-    public void finishMatch(String homeTeam, String awayTeam) {
-        validateNames(homeTeam, awayTeam);
+    List<Match> getSummaryPage(int offset, int limit);
 
-        String key = generateKey(homeTeam, awayTeam);
-        if (ongoingMatches.remove(key) == null) {
-            throw new IllegalArgumentException(String.format(Constants.ERR_GAME_NOT_FOUND, homeTeam, awayTeam));
-        }
+    default List<Match> getTopMatches(int limit) {
+        return getSummaryPage(0, limit);
     }
 
-    public List<Match> getSummary() {
-        return ongoingMatches.values().stream()
-                .map(Match::new)
-                .sorted(Comparator.comparingInt(Match::getTotalScore).reversed()
-                        .thenComparing(Comparator.comparingLong(Match::getStartTime).reversed()))
-                .toList();
+    Optional<Match> findMatchByTeam(String team);
+
+    Flow.Publisher<MatchEvent> changes();
+
+    /**
+     * Calls {@code listener} with the final state of every match finished from now on, on the
+     * finishing thread while the match's teams are still held, so finishes of one team reach it in
+     * order. The listener must be short and must not change the board. Unlike subscribing to
+     * {@link #changes()}, it does not make the board publish its other changes.
+     */
+    void addFinishListener(Consumer<? super Match> listener);
+
+    default void writeCheckpoint(WritableByteChannel channel) throws IOException {
+        Checkpoints.write(getSnapshot(), channel);
     }
 
-    private boolean isAnyTeamAlreadyPlaying(String home, String away) {
-        return ongoingMatches.values().stream().anyMatch(m -> m.getHomeTeam().equals(home) || m.getAwayTeam().equals(home) || m.getHomeTeam().equals(away) || m.getAwayTeam().equals(away));
+    void restore(ReadableByteChannel channel) throws IOException;
+
+    /**
+     * Reads a checkpoint written by {@link #writeCheckpoint} and returns its matches in start order.
+     */
+    static List<Match> readCheckpoint(ReadableByteChannel channel) throws IOException {
+        return Checkpoints.read(channel);
     }
 
-    private String generateKey(String home, String away) {
-        return home + KEY_SEPARATOR + away;
+    default BatchResult applyBatch(List<? extends ScoreEvent> events) {
+        RuntimeException[] errors = Batches.validate(events);
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] == null) {
+                try {
+                    Batches.apply(this, events.get(i));
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+        return Batches.result(events, errors);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package scoreboard;
+
+import static scoreboard.common.Validators.validateNames;
+import static scoreboard.common.Validators.validateScores;
+
+public sealed interface ScoreEvent {
+
+    String homeTeam();
+
+    String awayTeam();
+
+    void validate();
+
+    record StartMatch(String homeTeam, String awayTeam) implements ScoreEvent {
+
+        @Override
+        public void validate() {
+            validateNames(homeTeam, awayTeam);
+        }
+    }
+
+    record UpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreEvent {
+
+        @Override
+        public void validate() {
+            validateNames(homeTeam, awayTeam);
+            validateScores(homeScore, awayScore);
+        }
+    }
+
+    record FinishMatch(String homeTeam, String awayTeam) implements ScoreEvent {
+
+        @Override
+        public void validate() {
+            validateNames(homeTeam, awayTeam);
+        }
+    }
+}
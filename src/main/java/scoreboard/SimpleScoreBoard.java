@@ -0,0 +1,505 @@
+package scoreboard;
+
+import scoreboard.common.TeamRegistry;
+import scoreboard.event.MatchEvent;
+import scoreboard.event.MatchEventPublisher;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static scoreboard.common.Validators.validateName;
+import static scoreboard.common.Validators.validateNames;
+import static scoreboard.common.Validators.validateScores;
+
+/**
+ * {@link ScoreBoard} for single-threaded use. Team names are encoded once as dense int ids by a
+ * {@link TeamRegistry}; every ongoing match occupies a reusable slot, and the match data (team ids,
+ * packed score, start time and sequence), the team occupancy and the summary order are kept in
+ * parallel primitive arrays indexed by team id and slot. {@link Match} objects are only created for
+ * callers that ask for them; {@link #summaryCursor()} reads the slots in place.
+ * <p>
+ * {@link #applyBatch(List)} takes every match it touches out of the summary order once and puts it
+ * back once when the batch ends, however many events the batch holds for that match. While someone
+ * subscribes to {@link #changes()} every event is indexed immediately instead, so each published
+ * change carries its exact summary positions.
+ * <p>
+ * Every change bumps the board version; {@link #getSnapshot()} rebuilds the immutable summary at
+ * most once per version and hands out the cached snapshot otherwise. The last changes are also kept
+ * in a {@link ChangeLog}, so {@link #getSummaryDelta(long)} costs O(changes) for clients that are
+ * not too far behind.
+ */
+public class SimpleScoreBoard implements ScoreBoard {
+
+    private static final int NO_MATCH = -1;
+    private static final int NO_POSITION = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TeamRegistry teams;
+    private final SummaryTree summaryIndex;
+    private int[] matchByTeam;
+    private int[] homeTeamBySlot;
+    private int[] awayTeamBySlot;
+    private long[] scoreBySlot;
+    private long[] startTimeBySlot;
+    private long[] sequenceBySlot;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int nextSlot;
+    private boolean deferringIndex;
+    private boolean[] pendingIndex;
+    private int[] pendingSlots;
+    private int pendingSlotCount;
+    private long version;
+    private SummarySnapshot snapshot;
+    private final MatchEventPublisher events;
+    private final SummaryRenderer renderer;
+    private final ChangeLog changeLog;
+    private final SlotCursor cursor;
+
+    public SimpleScoreBoard() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SimpleScoreBoard(Executor eventExecutor) {
+        this.teams = new TeamRegistry();
+        this.summaryIndex = new SummaryTree(INITIAL_CAPACITY);
+        this.matchByTeam = new int[INITIAL_CAPACITY];
+        Arrays.fill(matchByTeam, NO_MATCH);
+        this.homeTeamBySlot = new int[INITIAL_CAPACITY];
+        this.awayTeamBySlot = new int[INITIAL_CAPACITY];
+        this.scoreBySlot = new long[INITIAL_CAPACITY];
+        this.startTimeBySlot = new long[INITIAL_CAPACITY];
+        this.sequenceBySlot = new long[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+        this.pendingIndex = new boolean[INITIAL_CAPACITY];
+        this.pendingSlots = new int[INITIAL_CAPACITY];
+        this.snapshot = SummarySnapshot.EMPTY;
+        this.events = new MatchEventPublisher(eventExecutor);
+        this.renderer = new SummaryRenderer();
+        this.changeLog = new ChangeLog(ChangeLog.DEFAULT_CAPACITY);
+        this.cursor = new SlotCursor();
+    }
+
+    @Override
+    public void startNewMatch(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        start(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        validateNames(homeTeam, awayTeam);
+        validateScores(homeScore, awayScore);
+
+        update(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public void incrementHomeGoal(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        int slot = requireSlot(homeTeam, awayTeam);
+        long score = scoreBySlot[slot];
+        rescore(slot, Match.homeOf(score) + 1, Match.awayOf(score));
+    }
+
+    @Override
+    public void incrementAwayGoal(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        int slot = requireSlot(homeTeam, awayTeam);
+        long score = scoreBySlot[slot];
+        rescore(slot, Match.homeOf(score), Match.awayOf(score) + 1);
+    }
+
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        validateNames(homeTeam, awayTeam);
+        validateScores(homeScore, awayScore);
+
+        int slot = requireSlot(homeTeam, awayTeam);
+        if (scoreBySlot[slot] != Match.pack(expectedHomeScore, expectedAwayScore)) {
+            return false;
+        }
+        rescore(slot, homeScore, awayScore);
+        return true;
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+
+        finish(homeTeam, awayTeam);
+    }
+
+    @Override
+    public BatchResult applyBatch(List<? extends ScoreEvent> events) {
+        RuntimeException[] errors = Batches.validate(events);
+        deferringIndex = !this.events.hasSubscribers();
+        try {
+            for (int i = 0; i < errors.length; i++) {
+                if (errors[i] == null) {
+                    try {
+                        apply(events.get(i));
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        errors[i] = e;
+                    }
+                }
+            }
+        } finally {
+            deferringIndex = false;
+            attachPendingSlots();
+        }
+        return Batches.result(events, errors);
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return getSnapshot().getMatches();
+    }
+
+    @Override
+    public SummarySnapshot getSnapshot() {
+        if (snapshot.getVersion() != version) {
+            List<Match> matchesInOrder = new ArrayList<>(summaryIndex.size());
+            summaryIndex.forEach(0, summaryIndex.size(), slot -> matchesInOrder.add(matchAt(slot)));
+            snapshot = new SummarySnapshot(version, matchesInOrder);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getMatchCount() {
+        return nextSlot - freeSlotCount;
+    }
+
+    @Override
+    public SummaryDelta getSummaryDelta(long sinceVersion) {
+        SummaryDelta delta = changeLog.since(sinceVersion, version);
+        return delta != null ? delta : SummaryDelta.full(getSnapshot());
+    }
+
+    @Override
+    public List<Match> getSummaryPage(int offset, int limit) {
+        if (offset < 0) {
+            throw new RejectedArgumentException(RejectionReason.NEGATIVE_OFFSET, Constants.ERR_NEGATIVE_OFFSET);
+        }
+        if (limit < 0) {
+            throw new RejectedArgumentException(RejectionReason.NEGATIVE_LIMIT, Constants.ERR_NEGATIVE_LIMIT);
+        }
+
+        List<Match> page = new ArrayList<>(Math.min(limit, Math.max(summaryIndex.size() - offset, 0)));
+        summaryIndex.forEach(offset, limit, slot -> page.add(matchAt(slot)));
+        return page;
+    }
+
+    /**
+     * Returns the board's single reusable cursor, restarted at the top of the summary. The cursor
+     * reads the match slots directly, so walking the summary allocates nothing; it must not be used
+     * after the board changes.
+     */
+    @Override
+    public SummaryCursor summaryCursor() {
+        cursor.restart();
+        return cursor;
+    }
+
+    @Override
+    public String renderSummary() {
+        return renderer.render(getSnapshot());
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> changes() {
+        return events;
+    }
+
+    @Override
+    public void addFinishListener(Consumer<? super Match> listener) {
+        events.addFinishListener(listener);
+    }
+
+    @Override
+    public void restore(ReadableByteChannel channel) throws IOException {
+        if (nextSlot > freeSlotCount) {
+            throw new IllegalStateException(Constants.ERR_RESTORE_INTO_NON_EMPTY_BOARD);
+        }
+
+        for (Match match : Checkpoints.read(channel)) {
+            insert(registerTeam(match.getHomeTeam()), registerTeam(match.getAwayTeam()), match.getScore(),
+                    match.getStartTime(), match.getSequence());
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        validateName(team);
+
+        int teamId = teams.find(team);
+        if (teamId == TeamRegistry.UNKNOWN || matchByTeam[teamId] == NO_MATCH) {
+            return Optional.empty();
+        }
+        return Optional.of(matchAt(matchByTeam[teamId]));
+    }
+
+    private void apply(ScoreEvent event) {
+        switch (event) {
+            case ScoreEvent.StartMatch start -> start(start.homeTeam(), start.awayTeam());
+            case ScoreEvent.UpdateScore update -> update(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+            case ScoreEvent.FinishMatch finish -> finish(finish.homeTeam(), finish.awayTeam());
+        }
+    }
+
+    private void start(String homeTeam, String awayTeam) {
+        if (findSlot(homeTeam, awayTeam) != NO_MATCH) {
+            throw new RejectedArgumentException(RejectionReason.GAME_EXISTS, String.format(Constants.ERR_GAME_EXISTS, homeTeam, awayTeam));
+        }
+
+        if (isPlaying(teams.find(homeTeam)) || isPlaying(teams.find(awayTeam))) {
+            throw new RejectedStateException(RejectionReason.TEAMS_PLAYING, Constants.ERR_TEAMS_PLAYING);
+        }
+
+        insert(registerTeam(homeTeam), registerTeam(awayTeam), 0, System.nanoTime(), Match.nextSequence());
+    }
+
+    private void insert(int homeId, int awayId, long score, long startTime, long sequence) {
+        int slot = allocateSlot();
+        homeTeamBySlot[slot] = homeId;
+        awayTeamBySlot[slot] = awayId;
+        scoreBySlot[slot] = score;
+        startTimeBySlot[slot] = startTime;
+        sequenceBySlot[slot] = sequence;
+        matchByTeam[homeId] = slot;
+        matchByTeam[awayId] = slot;
+        attachToIndex(slot);
+        version++;
+        record(ChangeLog.STARTED, slot);
+        if (isPublishing()) {
+            events.publish(new MatchEvent.MatchStarted(matchAt(slot), summaryIndex.rank(slot)));
+        }
+    }
+
+    private void update(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        rescore(requireSlot(homeTeam, awayTeam), homeScore, awayScore);
+    }
+
+    private void rescore(int slot, int homeScore, int awayScore) {
+        validateScores(homeScore, awayScore);
+
+        boolean publishing = isPublishing();
+        long previousScore = scoreBySlot[slot];
+        int previousPosition = publishing ? summaryIndex.rank(slot) : NO_POSITION;
+        if (totalScore(slot) == homeScore + awayScore) {
+            scoreBySlot[slot] = Match.pack(homeScore, awayScore);
+        } else {
+            detachFromIndex(slot);
+            scoreBySlot[slot] = Match.pack(homeScore, awayScore);
+            attachToIndex(slot);
+        }
+        version++;
+        record(ChangeLog.RESCORED, slot);
+        if (publishing) {
+            events.publish(new MatchEvent.ScoreChanged(matchAt(slot), Match.homeOf(previousScore), Match.awayOf(previousScore),
+                    previousPosition, summaryIndex.rank(slot)));
+        }
+    }
+
+    private void finish(String homeTeam, String awayTeam) {
+        int slot = requireSlot(homeTeam, awayTeam);
+        boolean publishing = isPublishing();
+        int previousPosition = publishing ? summaryIndex.rank(slot) : NO_POSITION;
+        detachFromIndex(slot);
+        pendingIndex[slot] = false;
+        matchByTeam[homeTeamBySlot[slot]] = NO_MATCH;
+        matchByTeam[awayTeamBySlot[slot]] = NO_MATCH;
+        releaseSlot(slot);
+        version++;
+        record(ChangeLog.FINISHED, slot);
+        if (events.hasFinishListeners()) {
+            events.finished(matchAt(slot));
+        }
+        if (publishing) {
+            events.publish(new MatchEvent.MatchFinished(matchAt(slot), previousPosition));
+        }
+    }
+
+    private boolean isPublishing() {
+        return !deferringIndex && events.hasSubscribers();
+    }
+
+    /**
+     * Teams are only registered once a start is accepted, so rejected starts never grow the team
+     * dictionary; an unknown team is not playing.
+     */
+    private boolean isPlaying(int teamId) {
+        return teamId != TeamRegistry.UNKNOWN && matchByTeam[teamId] != NO_MATCH;
+    }
+
+    int registeredTeamCount() {
+        return teams.size();
+    }
+
+    private int findSlot(String home, String away) {
+        int homeId = teams.find(home);
+        if (homeId == TeamRegistry.UNKNOWN) {
+            return NO_MATCH;
+        }
+        int slot = matchByTeam[homeId];
+        if (slot == NO_MATCH || homeTeamBySlot[slot] != homeId || !teams.nameOf(awayTeamBySlot[slot]).equals(away)) {
+            return NO_MATCH;
+        }
+        return slot;
+    }
+
+    private int requireSlot(String home, String away) {
+        int slot = findSlot(home, away);
+        if (slot == NO_MATCH) {
+            throw new RejectedArgumentException(RejectionReason.GAME_NOT_FOUND, String.format(Constants.ERR_GAME_NOT_FOUND, home, away));
+        }
+        return slot;
+    }
+
+    private void attachToIndex(int slot) {
+        if (!deferringIndex) {
+            summaryIndex.insert(slot, totalScore(slot), sequenceBySlot[slot]);
+        } else if (!pendingIndex[slot]) {
+            markPending(slot);
+        }
+    }
+
+    private void detachFromIndex(int slot) {
+        if (!deferringIndex) {
+            summaryIndex.remove(slot);
+        } else if (!pendingIndex[slot]) {
+            summaryIndex.remove(slot);
+            markPending(slot);
+        }
+    }
+
+    private void markPending(int slot) {
+        pendingIndex[slot] = true;
+        if (pendingSlotCount == pendingSlots.length) {
+            pendingSlots = Arrays.copyOf(pendingSlots, pendingSlotCount * 2);
+        }
+        pendingSlots[pendingSlotCount++] = slot;
+    }
+
+    private void attachPendingSlots() {
+        for (int i = 0; i < pendingSlotCount; i++) {
+            int slot = pendingSlots[i];
+            if (pendingIndex[slot]) {
+                pendingIndex[slot] = false;
+                summaryIndex.insert(slot, totalScore(slot), sequenceBySlot[slot]);
+            }
+        }
+        pendingSlotCount = 0;
+    }
+
+    private int registerTeam(String team) {
+        int id = teams.register(team);
+        if (id >= matchByTeam.length) {
+            int oldLength = matchByTeam.length;
+            matchByTeam = Arrays.copyOf(matchByTeam, oldLength * 2);
+            Arrays.fill(matchByTeam, oldLength, matchByTeam.length, NO_MATCH);
+        }
+        return id;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (nextSlot == homeTeamBySlot.length) {
+            homeTeamBySlot = Arrays.copyOf(homeTeamBySlot, nextSlot * 2);
+            awayTeamBySlot = Arrays.copyOf(awayTeamBySlot, nextSlot * 2);
+            scoreBySlot = Arrays.copyOf(scoreBySlot, nextSlot * 2);
+            startTimeBySlot = Arrays.copyOf(startTimeBySlot, nextSlot * 2);
+            sequenceBySlot = Arrays.copyOf(sequenceBySlot, nextSlot * 2);
+            freeSlots = Arrays.copyOf(freeSlots, nextSlot * 2);
+            pendingIndex = Arrays.copyOf(pendingIndex, nextSlot * 2);
+        }
+        return nextSlot++;
+    }
+
+    private void releaseSlot(int slot) {
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private int totalScore(int slot) {
+        return Match.homeOf(scoreBySlot[slot]) + Match.awayOf(scoreBySlot[slot]);
+    }
+
+    private Match matchAt(int slot) {
+        return new Match(teams.nameOf(homeTeamBySlot[slot]), teams.nameOf(awayTeamBySlot[slot]), scoreBySlot[slot],
+                startTimeBySlot[slot], sequenceBySlot[slot]);
+    }
+
+    private void record(byte kind, int slot) {
+        changeLog.record(version, kind, sequenceBySlot[slot], teams.nameOf(homeTeamBySlot[slot]),
+                teams.nameOf(awayTeamBySlot[slot]), scoreBySlot[slot], startTimeBySlot[slot]);
+    }
+
+    /**
+     * Flyweight over the match slots in summary order.
+     */
+    private final class SlotCursor implements SummaryCursor {
+
+        private final SummaryTree.Walk walk = summaryIndex.walk();
+        private long expectedVersion;
+        private int slot;
+
+        void restart() {
+            walk.restart();
+            expectedVersion = version;
+        }
+
+        @Override
+        public boolean next() {
+            if (version != expectedVersion) {
+                throw new IllegalStateException(Constants.ERR_STALE_SUMMARY_CURSOR);
+            }
+            slot = walk.next();
+            return slot != SummaryTree.NIL;
+        }
+
+        @Override
+        public String homeTeam() {
+            return teams.nameOf(homeTeamBySlot[slot]);
+        }
+
+        @Override
+        public String awayTeam() {
+            return teams.nameOf(awayTeamBySlot[slot]);
+        }
+
+        @Override
+        public int homeScore() {
+            return Match.homeOf(scoreBySlot[slot]);
+        }
+
+        @Override
+        public int awayScore() {
+            return Match.awayOf(scoreBySlot[slot]);
+        }
+
+        @Override
+        public long startTime() {
+            return startTimeBySlot[slot];
+        }
+    }
+}
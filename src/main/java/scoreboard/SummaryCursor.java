@@ -0,0 +1,20 @@
+package scoreboard;
+
+/**
+ * Forward-only, read-only view of the summary, one match at a time and in summary order. The
+ * accessors describe the match the last successful {@link #next()} moved to.
+ */
+public interface SummaryCursor {
+
+    boolean next();
+
+    String homeTeam();
+
+    String awayTeam();
+
+    int homeScore();
+
+    int awayScore();
+
+    long startTime();
+}
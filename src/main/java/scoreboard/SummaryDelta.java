@@ -0,0 +1,18 @@
+package scoreboard;
+
+import java.util.List;
+
+/**
+ * Changes of a board since a version a client already has. Unless {@code full} is set,
+ * {@code matches} holds, in summary order, every match that was started or rescored since then, and
+ * {@code removed} every match that was finished; a client drops the removed matches from its copy,
+ * then adds or replaces the others and re-sorts.
+ * When the client is too far behind for the board's change log, {@code full} is set and
+ * {@code matches} is the whole summary instead.
+ */
+public record SummaryDelta(long version, boolean full, List<Match> matches, List<Match> removed) {
+
+    static SummaryDelta full(SummarySnapshot snapshot) {
+        return new SummaryDelta(snapshot.getVersion(), true, snapshot.getMatches(), List.of());
+    }
+}
@@ -0,0 +1,91 @@
+package scoreboard;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Wire forms of a summary. The binary form is the board version (long) and the match count (int),
+ * followed by every match in summary order as length-prefixed UTF-8 team names and both scores
+ * (ints), all big-endian. The JSON form is
+ * {@code {"version":1,"matches":[{"homeTeam":"A","awayTeam":"B","homeScore":0,"awayScore":0}]}}.
+ * <p>
+ * Both forms are encoded into direct buffers. A snapshot is encoded once but written to many
+ * channels, and a channel write from a heap buffer first copies it into a temporary direct buffer.
+ */
+final class SummaryEncoding {
+
+    private static final int FIXED_MATCH_SIZE = 4 * Integer.BYTES;
+
+    static ByteBuffer binary(long version, List<Match> matches) {
+        byte[][] names = new byte[matches.size() * 2][];
+        int[] scores = new int[matches.size() * 2];
+        int length = Long.BYTES + Integer.BYTES;
+        int i = 0;
+        for (Match match : matches) {
+            names[i] = match.getHomeTeam().getBytes(StandardCharsets.UTF_8);
+            names[i + 1] = match.getAwayTeam().getBytes(StandardCharsets.UTF_8);
+            scores[i] = match.getHomeTeamPoints();
+            scores[i + 1] = match.getAwayTeamPoints();
+            length += FIXED_MATCH_SIZE + names[i].length + names[i + 1].length;
+            i += 2;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        buffer.putLong(version).putInt(matches.size());
+        for (i = 0; i < names.length; i += 2) {
+            buffer.putInt(names[i].length).put(names[i])
+                    .putInt(names[i + 1].length).put(names[i + 1])
+                    .putInt(scores[i]).putInt(scores[i + 1]);
+        }
+        return buffer.flip();
+    }
+
+    static ByteBuffer json(long version, List<Match> matches) {
+        StringBuilder json = new StringBuilder(32 + matches.size() * 64);
+        json.append("{\"version\":").append(version).append(",\"matches\":[");
+        boolean first = true;
+        for (Match match : matches) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"homeTeam\":");
+            appendString(json, match.getHomeTeam());
+            json.append(",\"awayTeam\":");
+            appendString(json, match.getAwayTeam());
+            json.append(",\"homeScore\":").append(match.getHomeTeamPoints())
+                    .append(",\"awayScore\":").append(match.getAwayTeamPoints())
+                    .append('}');
+        }
+        json.append("]}");
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private SummaryEncoding() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,14 @@
+package scoreboard;
+
+record SummaryKey(int totalScore, long sequence) implements Comparable<SummaryKey> {
+
+    static SummaryKey of(Match match) {
+        return new SummaryKey(match.getTotalScore(), match.getSequence());
+    }
+
+    @Override
+    public int compareTo(SummaryKey other) {
+        int byScore = Integer.compare(other.totalScore, totalScore);
+        return byScore != 0 ? byScore : Long.compare(other.sequence, sequence);
+    }
+}
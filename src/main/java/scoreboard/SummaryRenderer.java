@@ -0,0 +1,55 @@
+package scoreboard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders a summary as text, one {@code "Home 1 - 0 Away"} line per match. The text of the last
+ * rendered snapshot is reused until the board hands out a new one, and each line is kept between
+ * renders, so after a change only the lines of the changed matches are formatted again.
+ */
+final class SummaryRenderer {
+
+    private record Line(String awayTeam, int homeScore, int awayScore, String text) {
+    }
+
+    private Map<String, Line> linesByHomeTeam = new HashMap<>();
+    private SummarySnapshot renderedSnapshot;
+    private String renderedText = "";
+
+    synchronized String render(SummarySnapshot snapshot) {
+        if (snapshot == renderedSnapshot) {
+            return renderedText;
+        }
+
+        List<Match> matches = snapshot.getMatches();
+        Map<String, Line> lines = new HashMap<>(Math.max(16, matches.size() * 2));
+        String[] texts = new String[matches.size()];
+        int length = 0;
+        int i = 0;
+        for (Match match : matches) {
+            Line line = linesByHomeTeam.get(match.getHomeTeam());
+            if (line == null || !line.awayTeam.equals(match.getAwayTeam())
+                    || line.homeScore != match.getHomeTeamPoints() || line.awayScore != match.getAwayTeamPoints()) {
+                line = new Line(match.getAwayTeam(), match.getHomeTeamPoints(), match.getAwayTeamPoints(), format(match));
+            }
+            lines.put(match.getHomeTeam(), line);
+            texts[i++] = line.text;
+            length += line.text.length();
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        for (String line : texts) {
+            text.append(line);
+        }
+        linesByHomeTeam = lines;
+        renderedSnapshot = snapshot;
+        renderedText = text.toString();
+        return renderedText;
+    }
+
+    private static String format(Match match) {
+        return match.getHomeTeam() + " " + match.getHomeTeamPoints() + " - " + match.getAwayTeamPoints() + " " + match.getAwayTeam() + "\n";
+    }
+}
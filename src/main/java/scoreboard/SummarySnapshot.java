@@ -0,0 +1,54 @@
+package scoreboard;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, ordered view of a board at one version. A board hands out the same snapshot until a
+ * start, update or finish produces a new version, so comparing versions tells a reader whether
+ * anything changed.
+ * <p>
+ * The binary and JSON forms are encoded the first time they are asked for and then shared by every
+ * caller of the same snapshot; each caller gets its own read-only view to write from.
+ */
+public final class SummarySnapshot {
+
+    static final SummarySnapshot EMPTY = new SummarySnapshot(0, List.of());
+
+    private final long version;
+    private final List<Match> matches;
+    private volatile ByteBuffer binary;
+    private volatile ByteBuffer json;
+
+    SummarySnapshot(long version, List<Match> matches) {
+        this.version = version;
+        this.matches = Collections.unmodifiableList(matches);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    public ByteBuffer getBinary() {
+        ByteBuffer encoded = binary;
+        if (encoded == null) {
+            encoded = SummaryEncoding.binary(version, matches);
+            binary = encoded;
+        }
+        return encoded.asReadOnlyBuffer();
+    }
+
+    public ByteBuffer getJson() {
+        ByteBuffer encoded = json;
+        if (encoded == null) {
+            encoded = SummaryEncoding.json(version, matches);
+            json = encoded;
+        }
+        return encoded.asReadOnlyBuffer();
+    }
+}
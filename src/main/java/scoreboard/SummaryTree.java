@@ -0,0 +1,227 @@
+package scoreboard;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Order-statistic treap over match slots, ordered like {@link Match#SUMMARY_ORDER}. Nodes live in
+ * parallel primitive arrays indexed by slot, so repositioning a match allocates nothing, and the
+ * subtree sizes let a page or a position be located in O(log n).
+ */
+final class SummaryTree {
+
+    static final int NIL = -1;
+
+    private int[] left;
+    private int[] right;
+    private int[] size;
+    private int[] priority;
+    private int[] totals;
+    private long[] sequences;
+    private int root = NIL;
+    private int seed = 0x2545F491;
+    private int splitLeft;
+    private int splitRight;
+
+    SummaryTree(int initialCapacity) {
+        left = new int[initialCapacity];
+        right = new int[initialCapacity];
+        size = new int[initialCapacity];
+        priority = new int[initialCapacity];
+        totals = new int[initialCapacity];
+        sequences = new long[initialCapacity];
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    void insert(int slot, int totalScore, long sequence) {
+        ensureCapacity(slot + 1);
+        totals[slot] = totalScore;
+        sequences[slot] = sequence;
+        left[slot] = NIL;
+        right[slot] = NIL;
+        size[slot] = 1;
+        priority[slot] = nextPriority();
+        root = insert(root, slot);
+    }
+
+    void remove(int slot) {
+        root = remove(root, slot);
+    }
+
+    int rank(int slot) {
+        int rank = 0;
+        int node = root;
+        while (node != slot) {
+            if (precedes(slot, node)) {
+                node = left[node];
+            } else {
+                rank += sizeOf(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        return rank + sizeOf(left[slot]);
+    }
+
+    void forEach(int offset, int limit, IntConsumer action) {
+        visit(root, offset, (int) Math.min((long) offset + limit, Integer.MAX_VALUE), 0, action);
+    }
+
+    Walk walk() {
+        return new Walk();
+    }
+
+    private void visit(int node, int from, int to, int base, IntConsumer action) {
+        if (node == NIL || base >= to) {
+            return;
+        }
+        int nodeRank = base + sizeOf(left[node]);
+        if (from < nodeRank) {
+            visit(left[node], from, to, base, action);
+        }
+        if (nodeRank >= from && nodeRank < to) {
+            action.accept(node);
+        }
+        if (nodeRank + 1 < to && from < base + size[node]) {
+            visit(right[node], from, to, nodeRank + 1, action);
+        }
+    }
+
+    private int insert(int node, int slot) {
+        if (node == NIL) {
+            return slot;
+        }
+        if (priority[slot] > priority[node]) {
+            split(node, slot);
+            left[slot] = splitLeft;
+            right[slot] = splitRight;
+            update(slot);
+            return slot;
+        }
+        if (precedes(slot, node)) {
+            left[node] = insert(left[node], slot);
+        } else {
+            right[node] = insert(right[node], slot);
+        }
+        update(node);
+        return node;
+    }
+
+    private void split(int node, int slot) {
+        if (node == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (precedes(node, slot)) {
+            split(right[node], slot);
+            right[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(left[node], slot);
+            left[node] = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    private int remove(int node, int slot) {
+        if (node == slot) {
+            return merge(left[node], right[node]);
+        }
+        if (precedes(slot, node)) {
+            left[node] = remove(left[node], slot);
+        } else {
+            right[node] = remove(right[node], slot);
+        }
+        update(node);
+        return node;
+    }
+
+    private int merge(int first, int second) {
+        if (first == NIL) {
+            return second;
+        }
+        if (second == NIL) {
+            return first;
+        }
+        if (priority[first] > priority[second]) {
+            right[first] = merge(right[first], second);
+            update(first);
+            return first;
+        }
+        left[second] = merge(first, left[second]);
+        update(second);
+        return second;
+    }
+
+    private boolean precedes(int first, int second) {
+        if (totals[first] != totals[second]) {
+            return totals[first] > totals[second];
+        }
+        return sequences[first] > sequences[second];
+    }
+
+    private void update(int node) {
+        size[node] = 1 + sizeOf(left[node]) + sizeOf(right[node]);
+    }
+
+    private int sizeOf(int node) {
+        return node == NIL ? 0 : size[node];
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= left.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, left.length * 2);
+        left = Arrays.copyOf(left, newCapacity);
+        right = Arrays.copyOf(right, newCapacity);
+        size = Arrays.copyOf(size, newCapacity);
+        priority = Arrays.copyOf(priority, newCapacity);
+        totals = Arrays.copyOf(totals, newCapacity);
+        sequences = Arrays.copyOf(sequences, newCapacity);
+    }
+
+    /**
+     * In-order walk over the slots. The stack is kept between walks, so restarting and walking
+     * allocate nothing once the stack fits the depth of the tree.
+     */
+    final class Walk {
+
+        private int[] stack = new int[8];
+        private int depth;
+        private int node = NIL;
+
+        void restart() {
+            depth = 0;
+            node = root;
+        }
+
+        int next() {
+            while (node != NIL) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = node;
+                node = left[node];
+            }
+            if (depth == 0) {
+                return NIL;
+            }
+            int slot = stack[--depth];
+            node = right[slot];
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package scoreboard.archive;
+
+public record ArchivedMatch(String homeTeam, String awayTeam, int homeScore, int awayScore, long startTime) {
+}
@@ -0,0 +1,206 @@
+package scoreboard.archive;
+
+import scoreboard.Constants;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.common.TeamRegistry;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import static scoreboard.common.Validators.validateName;
+
+/**
+ * Append-only store of final results kept outside the Java heap. Every finished match is a
+ * fixed-width 32-byte record in a chunk of direct memory: both team ids, both scores, the start
+ * time and, per team, the index of that team's previous record. Only the team dictionary and one
+ * int per team stay on the heap, so the garbage collector never scans the results themselves.
+ * <p>
+ * Records are kept in finish order; {@link #findByTeam(String)} follows the per-team links from the
+ * team's latest record, touching only that team's matches.
+ */
+public class FinishedMatchArchive {
+
+    public static final int DEFAULT_CHUNK_RECORDS = 64 * 1024;
+
+    static final int RECORD_SIZE = 32;
+
+    private static final int HOME_TEAM = 0;
+    private static final int AWAY_TEAM = 4;
+    private static final int HOME_SCORE = 8;
+    private static final int AWAY_SCORE = 12;
+    private static final int START_TIME = 16;
+    private static final int PREVIOUS_BY_HOME = 24;
+    private static final int PREVIOUS_BY_AWAY = 28;
+    private static final int NO_RECORD = -1;
+    private static final int INITIAL_TEAMS = 16;
+
+    private final int chunkRecords;
+    private final List<ByteBuffer> chunks;
+    private final TeamRegistry teams;
+    private final ReadWriteLock lock;
+    private int[] latestByTeam;
+    private int size;
+
+    public FinishedMatchArchive() {
+        this(DEFAULT_CHUNK_RECORDS);
+    }
+
+    public FinishedMatchArchive(int chunkRecords) {
+        if (chunkRecords <= 0) {
+            throw new IllegalArgumentException(Constants.ERR_INVALID_ARCHIVE_CHUNK);
+        }
+        this.chunkRecords = chunkRecords;
+        this.chunks = new ArrayList<>();
+        this.teams = new TeamRegistry();
+        this.lock = new ReentrantReadWriteLock();
+        this.latestByTeam = new int[INITIAL_TEAMS];
+        Arrays.fill(latestByTeam, NO_RECORD);
+    }
+
+    /**
+     * Archives every match the board finishes from now on, on the finishing thread. The board keeps
+     * publishing nothing else; a failure to archive propagates to the thread that finished the match.
+     */
+    public void attachTo(ScoreBoard board) {
+        board.addFinishListener(this::archive);
+    }
+
+    /**
+     * Like {@link #attachTo(ScoreBoard)}, but hands a failure to archive to {@code errorHandler}
+     * instead of the thread that finished the match.
+     */
+    public void attachTo(ScoreBoard board, Consumer<? super RuntimeException> errorHandler) {
+        board.addFinishListener(match -> {
+            try {
+                archive(match);
+            } catch (RuntimeException e) {
+                errorHandler.accept(e);
+            }
+        });
+    }
+
+    public void archive(Match match) {
+        lock.writeLock().lock();
+        try {
+            int homeId = registerTeam(match.getHomeTeam());
+            int awayId = registerTeam(match.getAwayTeam());
+            if (size == chunks.size() * chunkRecords) {
+                chunks.add(ByteBuffer.allocateDirect(chunkRecords * RECORD_SIZE).order(ByteOrder.nativeOrder()));
+            }
+
+            int record = size;
+            ByteBuffer chunk = chunkOf(record);
+            int offset = offsetOf(record);
+            chunk.putInt(offset + HOME_TEAM, homeId)
+                    .putInt(offset + AWAY_TEAM, awayId)
+                    .putInt(offset + HOME_SCORE, match.getHomeTeamPoints())
+                    .putInt(offset + AWAY_SCORE, match.getAwayTeamPoints())
+                    .putLong(offset + START_TIME, match.getStartTime())
+                    .putInt(offset + PREVIOUS_BY_HOME, latestByTeam[homeId])
+                    .putInt(offset + PREVIOUS_BY_AWAY, latestByTeam[awayId]);
+            latestByTeam[homeId] = record;
+            latestByTeam[awayId] = record;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the {@code index}-th finished match, counting in finish order.
+     */
+    public ArchivedMatch get(int index) {
+        lock.readLock().lock();
+        try {
+            Objects.checkIndex(index, size);
+            return read(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void forEach(Consumer<? super ArchivedMatch> action) {
+        lock.readLock().lock();
+        try {
+            for (int record = 0; record < size; record++) {
+                action.accept(read(record));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the finished matches of {@code team}, the most recently finished first.
+     */
+    public List<ArchivedMatch> findByTeam(String team) {
+        validateName(team);
+
+        lock.readLock().lock();
+        try {
+            List<ArchivedMatch> matches = new ArrayList<>();
+            int teamId = teams.find(team);
+            if (teamId == TeamRegistry.UNKNOWN) {
+                return matches;
+            }
+            int record = latestByTeam[teamId];
+            while (record != NO_RECORD) {
+                ByteBuffer chunk = chunkOf(record);
+                int offset = offsetOf(record);
+                matches.add(read(record));
+                record = chunk.getInt(offset + HOME_TEAM) == teamId
+                        ? chunk.getInt(offset + PREVIOUS_BY_HOME)
+                        : chunk.getInt(offset + PREVIOUS_BY_AWAY);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ArchivedMatch read(int record) {
+        ByteBuffer chunk = chunkOf(record);
+        int offset = offsetOf(record);
+        return new ArchivedMatch(
+                teams.nameOf(chunk.getInt(offset + HOME_TEAM)),
+                teams.nameOf(chunk.getInt(offset + AWAY_TEAM)),
+                chunk.getInt(offset + HOME_SCORE),
+                chunk.getInt(offset + AWAY_SCORE),
+                chunk.getLong(offset + START_TIME));
+    }
+
+    private ByteBuffer chunkOf(int record) {
+        return chunks.get(record / chunkRecords);
+    }
+
+    private int offsetOf(int record) {
+        return (record % chunkRecords) * RECORD_SIZE;
+    }
+
+    private int registerTeam(String team) {
+        int id = teams.register(team);
+        if (id >= latestByTeam.length) {
+            int oldLength = latestByTeam.length;
+            latestByTeam = Arrays.copyOf(latestByTeam, oldLength * 2);
+            Arrays.fill(latestByTeam, oldLength, latestByTeam.length, NO_RECORD);
+        }
+        return id;
+    }
+}
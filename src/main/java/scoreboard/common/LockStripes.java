@@ -0,0 +1,77 @@
+package scoreboard.common;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static scoreboard.Constants.ERR_INVALID_STRIPES;
+
+/**
+ * Fixed set of locks that team names hash to. A change holds the stripes of the teams it touches,
+ * so changes whose teams fall on different stripes never contend. Stripes are always acquired in
+ * index order and released in reverse, which rules out deadlocks between holders of several stripes.
+ */
+public final class LockStripes {
+
+    public static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] locks;
+
+    public LockStripes(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException(ERR_INVALID_STRIPES);
+        }
+        this.locks = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public void lock(String team) {
+        locks[stripeOf(team)].lock();
+    }
+
+    public void unlock(String team) {
+        locks[stripeOf(team)].unlock();
+    }
+
+    public void lock(String home, String away) {
+        int first = firstStripe(home, away);
+        int second = secondStripe(home, away);
+        locks[first].lock();
+        if (second != first) {
+            locks[second].lock();
+        }
+    }
+
+    public void unlock(String home, String away) {
+        int first = firstStripe(home, away);
+        int second = secondStripe(home, away);
+        if (second != first) {
+            locks[second].unlock();
+        }
+        locks[first].unlock();
+    }
+
+    public void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    public void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    private int stripeOf(String team) {
+        return Math.floorMod(team.hashCode(), locks.length);
+    }
+
+    private int firstStripe(String home, String away) {
+        return Math.min(stripeOf(home), stripeOf(away));
+    }
+
+    private int secondStripe(String home, String away) {
+        return Math.max(stripeOf(home), stripeOf(away));
+    }
+}
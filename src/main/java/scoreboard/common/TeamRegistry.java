@@ -0,0 +1,84 @@
+package scoreboard.common;
+
+import java.util.Arrays;
+
+import static scoreboard.Constants.ERR_UNKNOWN_TEAM_ID;
+
+/**
+ * Dictionary that encodes every team name as a compact, dense int id. Ids are never reused, so
+ * they can index plain arrays. Lookups use an open-addressing table with linear probing and
+ * allocate nothing once the table has grown to fit the teams.
+ */
+public final class TeamRegistry {
+
+    public static final int UNKNOWN = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] keys;
+    private int[] ids;
+    private String[] names;
+    private int size;
+
+    public TeamRegistry() {
+        this.keys = new String[INITIAL_CAPACITY * 2];
+        this.ids = new int[INITIAL_CAPACITY * 2];
+        this.names = new String[INITIAL_CAPACITY];
+    }
+
+    public int register(String name) {
+        int index = indexOf(name);
+        if (keys[index] != null) {
+            return ids[index];
+        }
+
+        if (size == names.length) {
+            grow();
+            index = indexOf(name);
+        }
+        keys[index] = name;
+        ids[index] = size;
+        names[size] = name;
+        return size++;
+    }
+
+    public int find(String name) {
+        int index = indexOf(name);
+        return keys[index] == null ? UNKNOWN : ids[index];
+    }
+
+    public String nameOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException(String.format(ERR_UNKNOWN_TEAM_ID, id));
+        }
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int indexOf(String name) {
+        int mask = keys.length - 1;
+        int index = spread(name.hashCode()) & mask;
+        while (keys[index] != null && !keys[index].equals(name)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        names = Arrays.copyOf(names, names.length * 2);
+        keys = new String[names.length * 2];
+        ids = new int[names.length * 2];
+        for (int id = 0; id < size; id++) {
+            int index = indexOf(names[id]);
+            keys[index] = names[id];
+            ids[index] = id;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
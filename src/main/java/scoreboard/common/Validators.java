@@ -1,17 +1,29 @@
 package scoreboard.common;
 
+import scoreboard.RejectedArgumentException;
+import scoreboard.RejectionReason;
+
 import static scoreboard.Constants.*;
 
 public class Validators {
     public static void validateNames(String home, String away) {
         if (home == null || away == null || home.isBlank() || away.isBlank()) {
-            throw new IllegalArgumentException(ERR_INVALID_NAMES);
+            throw new RejectedArgumentException(RejectionReason.INVALID_NAMES, ERR_INVALID_NAMES);
         }
         if (home.equals(away)) {
-            throw new IllegalArgumentException(ERR_SAME_TEAMS);
+            throw new RejectedArgumentException(RejectionReason.SAME_TEAMS, ERR_SAME_TEAMS);
+        }
+    }
+
+    public static void validateName(String team) {
+        if (team == null || team.isBlank()) {
+            throw new RejectedArgumentException(RejectionReason.INVALID_NAMES, ERR_INVALID_NAMES);
         }
-        if(home.contains(KEY_SEPARATOR) || away.contains(KEY_SEPARATOR)) {
-            throw new IllegalArgumentException(ERR_INVALID_TEAM_NAME_CHARACTERS);
+    }
+
+    public static void validateScores(int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0) {
+            throw new RejectedArgumentException(RejectionReason.NEGATIVE_SCORE, ERR_NEGATIVE_SCORE);
         }
     }
 
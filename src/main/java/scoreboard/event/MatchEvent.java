@@ -0,0 +1,27 @@
+package scoreboard.event;
+
+import scoreboard.Match;
+
+/**
+ * Change of a single match as seen by {@link scoreboard.ScoreBoard#changes()} subscribers. The
+ * carried {@link Match} is an immutable copy taken right after the change; positions are indexes in
+ * the summary order.
+ */
+public sealed interface MatchEvent {
+
+    Match match();
+
+    record MatchStarted(Match match, int position) implements MatchEvent {
+    }
+
+    record ScoreChanged(Match match, int previousHomeScore, int previousAwayScore, int previousPosition,
+                        int position) implements MatchEvent {
+
+        ScoreChanged coalesce(ScoreChanged later) {
+            return new ScoreChanged(later.match, previousHomeScore, previousAwayScore, previousPosition, later.position);
+        }
+    }
+
+    record MatchFinished(Match match, int previousPosition) implements MatchEvent {
+    }
+}
@@ -0,0 +1,240 @@
+package scoreboard.event;
+
+import scoreboard.Match;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static scoreboard.Constants.ERR_INVALID_EVENT_BUFFER_SIZE;
+import static scoreboard.Constants.ERR_NON_POSITIVE_DEMAND;
+import static scoreboard.Constants.ERR_SUBSCRIBER_OVERFLOW;
+
+/**
+ * {@link Flow.Publisher} that fans board changes out to any number of subscribers without ever
+ * blocking the publishing writer. A writer only hands the event over; it is fanned out to the
+ * subscribers on the executor, in publishing order. Every subscriber has its own queue that is
+ * drained on the executor as far as its demand allows; while a {@link MatchEvent.ScoreChanged} is
+ * still waiting for demand, later score changes of the same match are folded into it, so a slow
+ * subscriber receives the first previous and the latest current state instead of every
+ * intermediate goal.
+ * <p>
+ * A subscriber queue holds at most the buffer size of events. A subscriber that falls further
+ * behind is cancelled and receives an {@link IllegalStateException} instead of holding events
+ * without bound.
+ * <p>
+ * Finish listeners are the cheap alternative for consumers that only need final results: they are
+ * called on the finishing thread and do not make the board publish its other changes.
+ */
+public class MatchEventPublisher implements Flow.Publisher<MatchEvent> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 65_536;
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final CopyOnWriteArrayList<BoardSubscription> subscriptions;
+    private final Queue<Supplier<? extends MatchEvent>> published;
+    private final AtomicInteger fanOutInProgress;
+    private final CopyOnWriteArrayList<Consumer<? super Match>> finishListeners;
+
+    public MatchEventPublisher(Executor executor) {
+        this(executor, DEFAULT_BUFFER_SIZE);
+    }
+
+    public MatchEventPublisher(Executor executor, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(ERR_INVALID_EVENT_BUFFER_SIZE);
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.bufferSize = bufferSize;
+        this.subscriptions = new CopyOnWriteArrayList<>();
+        this.published = new ConcurrentLinkedQueue<>();
+        this.fanOutInProgress = new AtomicInteger();
+        this.finishListeners = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+        BoardSubscription subscription = new BoardSubscription(Objects.requireNonNull(subscriber));
+        subscriptions.add(subscription);
+        subscription.schedule();
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public void addFinishListener(Consumer<? super Match> listener) {
+        finishListeners.add(Objects.requireNonNull(listener));
+    }
+
+    public boolean hasFinishListeners() {
+        return !finishListeners.isEmpty();
+    }
+
+    public void finished(Match match) {
+        for (Consumer<? super Match> listener : finishListeners) {
+            listener.accept(match);
+        }
+    }
+
+    public void publish(MatchEvent event) {
+        publish(() -> event);
+    }
+
+    /**
+     * Publishes an event that is only built on the executor, so a writer that holds a lock pays
+     * for nothing but the hand-off.
+     */
+    public void publish(Supplier<? extends MatchEvent> event) {
+        published.add(event);
+        if (fanOutInProgress.getAndIncrement() == 0) {
+            executor.execute(this::fanOut);
+        }
+    }
+
+    private void fanOut() {
+        int missed = 1;
+        do {
+            for (Supplier<? extends MatchEvent> next = published.poll(); next != null; next = published.poll()) {
+                MatchEvent event = next.get();
+                for (BoardSubscription subscription : subscriptions) {
+                    subscription.offer(event);
+                }
+            }
+            missed = fanOutInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private final class BoardSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super MatchEvent> subscriber;
+        private final Queue<PendingEvent> queue = new ArrayDeque<>();
+        private final Map<String, PendingEvent> pendingScoreChanges = new HashMap<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private boolean subscribed;
+
+        BoardSubscription(Flow.Subscriber<? super MatchEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(MatchEvent event) {
+            synchronized (this) {
+                String key = event.match().getHomeTeam();
+                if (event instanceof MatchEvent.ScoreChanged changed && pendingScoreChanges.containsKey(key)) {
+                    PendingEvent pending = pendingScoreChanges.get(key);
+                    pending.event = ((MatchEvent.ScoreChanged) pending.event).coalesce(changed);
+                    return;
+                }
+                if (queue.size() == bufferSize) {
+                    error = new IllegalStateException(String.format(ERR_SUBSCRIBER_OVERFLOW, bufferSize));
+                    queue.clear();
+                    pendingScoreChanges.clear();
+                } else if (event instanceof MatchEvent.ScoreChanged) {
+                    PendingEvent pending = new PendingEvent(key, event);
+                    pendingScoreChanges.put(key, pending);
+                    queue.add(pending);
+                } else {
+                    pendingScoreChanges.remove(key);
+                    queue.add(new PendingEvent(key, event));
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException(ERR_NON_POSITIVE_DEMAND);
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void schedule() {
+            if (workInProgress.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    cancel();
+                    subscriber.onError(e);
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            Throwable failure = error;
+            if (failure != null && !cancelled) {
+                cancel();
+                subscriber.onError(failure);
+            }
+            while (!cancelled && demand.get() > 0) {
+                MatchEvent event = poll();
+                if (event == null) {
+                    return;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(event);
+            }
+        }
+
+        private synchronized MatchEvent poll() {
+            PendingEvent pending = queue.poll();
+            if (pending == null) {
+                return null;
+            }
+            pendingScoreChanges.remove(pending.key, pending);
+            return pending.event;
+        }
+    }
+
+    private static final class PendingEvent {
+
+        private final String key;
+        private MatchEvent event;
+
+        PendingEvent(String key, MatchEvent event) {
+            this.key = key;
+            this.event = event;
+        }
+    }
+}
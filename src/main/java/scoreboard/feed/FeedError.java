@@ -0,0 +1,4 @@
+package scoreboard.feed;
+
+public record FeedError(long lineNumber, String line, RuntimeException error) {
+}
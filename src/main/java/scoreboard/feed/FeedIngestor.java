@@ -0,0 +1,317 @@
+package scoreboard.feed;
+
+import scoreboard.BatchFailure;
+import scoreboard.BatchResult;
+import scoreboard.Constants;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams a line-oriented score feed into a board. Every line holds one record:
+ * <pre>
+ * START Mexico Canada
+ * SCORE Mexico Canada 0 5
+ * FINISH Mexico Canada
+ * </pre>
+ * Fields are separated by spaces or tabs, and a team name containing spaces is written in double
+ * quotes. Blank lines and lines starting with {@code #} are skipped.
+ * <p>
+ * Records are parsed in place from a reusable buffer or a memory-mapped file: team names are
+ * interned from their bytes and scores are read as digits, so no String is created per field.
+ * Parsed records are applied with {@link ScoreBoard#applyBatch(List)}; malformed and rejected
+ * records go to the error handler with their line number and text. An ingestor is not
+ * thread-safe.
+ */
+public class FeedIngestor {
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final long DEFAULT_MAPPING_WINDOW = 256L * 1024 * 1024;
+    private static final int MAX_FIELDS = 5;
+    private static final byte[] START = "START".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SCORE = "SCORE".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FINISH = "FINISH".getBytes(StandardCharsets.US_ASCII);
+
+    private final ScoreBoard board;
+    private final Consumer<FeedError> errorHandler;
+    private final int batchSize;
+    private final int bufferSize;
+    private final long mappingWindow;
+    private final NameTable names;
+    private final List<ScoreEvent> batch;
+    private final long[] batchLineNumbers;
+    private final int[] batchLineStarts;
+    private final int[] batchLineEnds;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private long lineNumber;
+    private long recordCount;
+    private long appliedCount;
+    private long rejectedCount;
+
+    public FeedIngestor(ScoreBoard board, Consumer<FeedError> errorHandler) {
+        this(board, errorHandler, DEFAULT_BATCH_SIZE);
+    }
+
+    public FeedIngestor(ScoreBoard board, Consumer<FeedError> errorHandler, int batchSize) {
+        this(board, errorHandler, batchSize, DEFAULT_BUFFER_SIZE, DEFAULT_MAPPING_WINDOW);
+    }
+
+    FeedIngestor(ScoreBoard board, Consumer<FeedError> errorHandler, int batchSize, int bufferSize, long mappingWindow) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(Constants.ERR_INVALID_BATCH_SIZE);
+        }
+        this.board = board;
+        this.errorHandler = errorHandler;
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+        this.mappingWindow = mappingWindow;
+        this.names = new NameTable();
+        this.batch = new ArrayList<>(batchSize);
+        this.batchLineNumbers = new long[batchSize];
+        this.batchLineStarts = new int[batchSize];
+        this.batchLineEnds = new int[batchSize];
+        this.fieldStarts = new int[MAX_FIELDS];
+        this.fieldEnds = new int[MAX_FIELDS];
+    }
+
+    public FeedResult ingest(ReadableByteChannel channel) throws IOException {
+        reset();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(buffer) < 0;
+            buffer.flip();
+            int consumed = parse(buffer, buffer.limit(), endOfInput);
+            buffer.position(consumed);
+            if (consumed == 0 && buffer.limit() == buffer.capacity()) {
+                buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2).put(buffer);
+            } else {
+                buffer.compact();
+            }
+        }
+        return result();
+    }
+
+    /**
+     * Ingests a feed file by mapping it into memory window by window instead of copying it.
+     */
+    public FeedResult ingest(Path file) throws IOException {
+        reset();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            long window = mappingWindow;
+            while (position < size) {
+                long length = Math.min(window, size - position);
+                boolean endOfInput = position + length == size;
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed = parse(mapped, mapped.limit(), endOfInput);
+                if (consumed == 0 && !endOfInput) {
+                    window *= 2;
+                }
+                position += consumed;
+            }
+        }
+        return result();
+    }
+
+    private void reset() {
+        lineNumber = 0;
+        recordCount = 0;
+        appliedCount = 0;
+        rejectedCount = 0;
+    }
+
+    private FeedResult result() {
+        return new FeedResult(recordCount, appliedCount, rejectedCount);
+    }
+
+    /**
+     * Parses every complete line in {@code [0, limit)}, and the trailing partial line too once the
+     * input has ended, and returns the index of the first byte left unparsed.
+     */
+    private int parse(ByteBuffer buffer, int limit, boolean endOfInput) {
+        int lineStart = 0;
+        for (int i = 0; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                parseLine(buffer, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (endOfInput && lineStart < limit) {
+            parseLine(buffer, lineStart, limit);
+            lineStart = limit;
+        }
+        applyBatch(buffer);
+        return lineStart;
+    }
+
+    private void parseLine(ByteBuffer buffer, int start, int end) {
+        lineNumber++;
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        while (start < end && isSeparator(buffer.get(start))) {
+            start++;
+        }
+        if (start == end || buffer.get(start) == '#') {
+            return;
+        }
+
+        recordCount++;
+        int fields = split(buffer, start, end);
+        ScoreEvent event = fields < 0 ? null : toEvent(buffer, fields);
+        if (event == null) {
+            rejectedCount++;
+            errorHandler.accept(new FeedError(lineNumber, decode(buffer, start, end),
+                    new IllegalArgumentException(String.format(Constants.ERR_MALFORMED_FEED_RECORD, lineNumber))));
+            return;
+        }
+
+        int index = batch.size();
+        batch.add(event);
+        batchLineNumbers[index] = lineNumber;
+        batchLineStarts[index] = start;
+        batchLineEnds[index] = end;
+        if (batch.size() == batchSize) {
+            applyBatch(buffer);
+        }
+    }
+
+    /**
+     * Finds the fields of a line and returns their number, or -1 for an unterminated quote or more
+     * fields than any record has.
+     */
+    private int split(ByteBuffer buffer, int start, int end) {
+        int fields = 0;
+        int i = start;
+        while (true) {
+            while (i < end && isSeparator(buffer.get(i))) {
+                i++;
+            }
+            if (i == end) {
+                return fields;
+            }
+            if (fields == MAX_FIELDS) {
+                return -1;
+            }
+
+            if (buffer.get(i) == '"') {
+                int closing = i + 1;
+                while (closing < end && buffer.get(closing) != '"') {
+                    closing++;
+                }
+                if (closing == end || closing + 1 < end && !isSeparator(buffer.get(closing + 1))) {
+                    return -1;
+                }
+                fieldStarts[fields] = i + 1;
+                fieldEnds[fields] = closing;
+                i = closing + 1;
+            } else {
+                fieldStarts[fields] = i;
+                while (i < end && !isSeparator(buffer.get(i))) {
+                    i++;
+                }
+                fieldEnds[fields] = i;
+            }
+            fields++;
+        }
+    }
+
+    private ScoreEvent toEvent(ByteBuffer buffer, int fields) {
+        if (fields == 3 && isKeyword(buffer, START)) {
+            return new ScoreEvent.StartMatch(name(buffer, 1), name(buffer, 2));
+        }
+        if (fields == 3 && isKeyword(buffer, FINISH)) {
+            return new ScoreEvent.FinishMatch(name(buffer, 1), name(buffer, 2));
+        }
+        if (fields == 5 && isKeyword(buffer, SCORE)) {
+            long homeScore = number(buffer, 3);
+            long awayScore = number(buffer, 4);
+            if (homeScore == Long.MIN_VALUE || awayScore == Long.MIN_VALUE) {
+                return null;
+            }
+            return new ScoreEvent.UpdateScore(name(buffer, 1), name(buffer, 2), (int) homeScore, (int) awayScore);
+        }
+        return null;
+    }
+
+    private boolean isKeyword(ByteBuffer buffer, byte[] keyword) {
+        if (fieldEnds[0] - fieldStarts[0] != keyword.length) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length; i++) {
+            if (buffer.get(fieldStarts[0] + i) != keyword[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String name(ByteBuffer buffer, int field) {
+        return names.intern(buffer, fieldStarts[field], fieldEnds[field]);
+    }
+
+    /**
+     * Reads an optionally signed int field, or returns {@link Long#MIN_VALUE} if it is not one.
+     */
+    private long number(ByteBuffer buffer, int field) {
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+        boolean negative = buffer.get(start) == '-';
+        if (negative) {
+            start++;
+        }
+        if (start == end || end - start > 10) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            byte digit = buffer.get(i);
+            if (digit < '0' || digit > '9') {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    private void applyBatch(ByteBuffer buffer) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        BatchResult result = board.applyBatch(batch);
+        appliedCount += result.appliedCount();
+        rejectedCount += result.failures().size();
+        for (BatchFailure failure : result.failures()) {
+            int index = failure.index();
+            errorHandler.accept(new FeedError(batchLineNumbers[index],
+                    decode(buffer, batchLineStarts[index], batchLineEnds[index]), failure.error()));
+        }
+        batch.clear();
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] line = new byte[end - start];
+        buffer.get(start, line);
+        return new String(line, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,4 @@
+package scoreboard.feed;
+
+public record FeedResult(long recordCount, long appliedCount, long rejectedCount) {
+}
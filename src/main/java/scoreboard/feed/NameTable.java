@@ -0,0 +1,89 @@
+package scoreboard.feed;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Interns team names straight from feed bytes. A name already seen is found by hashing and
+ * comparing the bytes in place, so it costs no allocation; only a new name is decoded into a
+ * String.
+ */
+final class NameTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[][] keys;
+    private String[] names;
+    private int[] hashes;
+    private int size;
+
+    NameTable() {
+        this.keys = new byte[INITIAL_CAPACITY][];
+        this.names = new String[INITIAL_CAPACITY];
+        this.hashes = new int[INITIAL_CAPACITY];
+    }
+
+    String intern(ByteBuffer buffer, int start, int end) {
+        int hash = hash(buffer, start, end);
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (keys[index] != null) {
+            if (hashes[index] == hash && matches(keys[index], buffer, start, end)) {
+                return names[index];
+            }
+            index = (index + 1) & mask;
+        }
+
+        byte[] key = new byte[end - start];
+        buffer.get(start, key);
+        String name = new String(key, StandardCharsets.UTF_8);
+        keys[index] = key;
+        names[index] = name;
+        hashes[index] = hash;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return name;
+    }
+
+    private static int hash(ByteBuffer buffer, int start, int end) {
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buffer, int start, int end) {
+        if (key.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buffer.get(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void grow() {
+        byte[][] oldKeys = keys;
+        String[] oldNames = names;
+        int[] oldHashes = hashes;
+        keys = new byte[oldKeys.length * 2][];
+        names = new String[oldKeys.length * 2];
+        hashes = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = oldHashes[i] & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                names[index] = oldNames[i];
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+}
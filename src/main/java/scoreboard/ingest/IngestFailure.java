@@ -0,0 +1,6 @@
+package scoreboard.ingest;
+
+import scoreboard.ScoreEvent;
+
+public record IngestFailure(long sequence, ScoreEvent event, RuntimeException error) {
+}
@@ -0,0 +1,225 @@
+package scoreboard.ingest;
+
+import scoreboard.BatchFailure;
+import scoreboard.BatchResult;
+import scoreboard.Constants;
+import scoreboard.RejectedArgumentException;
+import scoreboard.RejectionReason;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreEvent;
+import scoreboard.SummarySnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Feeds a board from a preallocated ring of commands, Disruptor style. Producers on any thread
+ * claim a sequence with a single atomic increment, store their command in the matching slot and
+ * mark the slot as published. One consumer thread owns the board: it drains every contiguous
+ * published command, up to the batch size, applies them with {@link ScoreBoard#applyBatch(List)}
+ * and only then frees the slots. The board itself therefore needs no locking, and a plain
+ * {@link scoreboard.SimpleScoreBoard} is the intended target.
+ * <p>
+ * Snapshots are built lazily: {@link #getSnapshot()} asks the consumer for one when the board has
+ * changed since the last one was built, and waits for it, so a feed nobody reads never pays for
+ * snapshots. Rejected commands are reported to the failure handler on the consumer thread, which
+ * must not throw. The board must not be used directly while the ingestor runs. The consumer is a
+ * daemon thread, so an ingestor that was never closed does not keep the JVM alive.
+ */
+public class RingBufferIngestor implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+    private final ScoreBoard board;
+    private final WaitStrategy waitStrategy;
+    private final Consumer<IngestFailure> failureHandler;
+    private final int mask;
+    private final int maxBatchSize;
+    private final ScoreEvent[] events;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed;
+    private final AtomicLong consumed;
+    private final List<ScoreEvent> batch;
+    private final Thread consumer;
+    private volatile SummarySnapshot snapshot;
+    private volatile long appliedVersion;
+    private volatile boolean snapshotRequested;
+    private volatile boolean running;
+
+    public RingBufferIngestor(ScoreBoard board, Consumer<IngestFailure> failureHandler) {
+        this(board, DEFAULT_CAPACITY, WaitStrategy.YIELD, DEFAULT_MAX_BATCH_SIZE, failureHandler);
+    }
+
+    public RingBufferIngestor(ScoreBoard board, int capacity, WaitStrategy waitStrategy, int maxBatchSize,
+                              Consumer<IngestFailure> failureHandler) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException(Constants.ERR_INVALID_RING_SETTINGS);
+        }
+        this.board = board;
+        this.waitStrategy = waitStrategy;
+        this.failureHandler = failureHandler;
+        this.mask = capacity - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.events = new ScoreEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.claimed = new AtomicLong();
+        this.consumed = new AtomicLong();
+        this.batch = new ArrayList<>(Math.min(capacity, maxBatchSize));
+        this.snapshot = board.getSnapshot();
+        this.appliedVersion = snapshot.getVersion();
+        this.running = true;
+        this.consumer = new Thread(this::consume, "scoreboard-ingestor");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public long startNewMatch(String homeTeam, String awayTeam) {
+        return publish(new ScoreEvent.StartMatch(homeTeam, awayTeam));
+    }
+
+    public long updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return publish(new ScoreEvent.UpdateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    public long finishMatch(String homeTeam, String awayTeam) {
+        return publish(new ScoreEvent.FinishMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Queues {@code event} and returns its sequence. Waits, as the wait strategy dictates, while the
+     * ring is full.
+     */
+    public long publish(ScoreEvent event) {
+        if (event == null) {
+            throw new RejectedArgumentException(RejectionReason.NULL_EVENT, Constants.ERR_NULL_EVENT);
+        }
+        if (!running) {
+            throw new IllegalStateException(Constants.ERR_INGESTOR_CLOSED);
+        }
+
+        long sequence = claimed.getAndIncrement();
+        int attempt = 0;
+        while (sequence - events.length >= consumed.get()) {
+            if (!consumer.isAlive()) {
+                throw new IllegalStateException(Constants.ERR_INGESTOR_CLOSED);
+            }
+            waitStrategy.idle(attempt++);
+        }
+        int slot = (int) sequence & mask;
+        events[slot] = event;
+        published.set(slot, sequence);
+        return sequence;
+    }
+
+    /**
+     * Waits until the command with {@code sequence} and every command before it has been applied.
+     * Throws if the consumer stopped before applying it.
+     */
+    public void awaitApplied(long sequence) {
+        int attempt = 0;
+        while (consumed.get() <= sequence) {
+            if (!consumer.isAlive()) {
+                throw new IllegalStateException(Constants.ERR_INGESTOR_CLOSED);
+            }
+            waitStrategy.idle(attempt++);
+        }
+    }
+
+    public long getAppliedCount() {
+        return consumed.get();
+    }
+
+    /**
+     * Returns a snapshot that includes every batch applied before the call, waiting for the
+     * consumer to build it if the board changed since the last one. Throws if the consumer stopped
+     * without building it.
+     */
+    public SummarySnapshot getSnapshot() {
+        long version = appliedVersion;
+        SummarySnapshot current = snapshot;
+        int attempt = 0;
+        while (current.getVersion() < version) {
+            if (!consumer.isAlive()) {
+                throw new IllegalStateException(Constants.ERR_INGESTOR_CLOSED);
+            }
+            snapshotRequested = true;
+            waitStrategy.idle(attempt++);
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * Stops accepting commands, applies every command published before the call and stops the
+     * consumer. Commands published concurrently with closing may be dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume() {
+        long next = 0;
+        int attempt = 0;
+        while (running || next < claimed.get()) {
+            int drained = drain(next);
+            if (snapshotRequested) {
+                snapshotRequested = false;
+                snapshot = board.getSnapshot();
+            }
+            if (drained > 0) {
+                next += drained;
+                attempt = 0;
+            } else {
+                waitStrategy.idle(attempt++);
+            }
+        }
+        if (snapshot.getVersion() < appliedVersion) {
+            snapshot = board.getSnapshot();
+        }
+    }
+
+    private int drain(long next) {
+        int count = 0;
+        while (count < maxBatchSize) {
+            long sequence = next + count;
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence) {
+                break;
+            }
+            batch.add(events[slot]);
+            events[slot] = null;
+            count++;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        BatchResult result = board.applyBatch(batch);
+        batch.clear();
+        appliedVersion = board.getVersion();
+        consumed.set(next + count);
+        for (BatchFailure failure : result.failures()) {
+            failureHandler.accept(new IngestFailure(next + failure.index(), failure.event(), failure.error()));
+        }
+        return count;
+    }
+}
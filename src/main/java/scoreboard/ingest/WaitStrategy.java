@@ -0,0 +1,55 @@
+package scoreboard.ingest;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits for the ring: the consumer for new commands, producers for free slots.
+ * {@code attempt} counts the consecutive idle rounds, so strategies can back off gradually.
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spins on the CPU; the lowest latency, at the price of a fully busy core.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    /**
+     * Spins briefly, then yields the CPU to other threads between checks.
+     */
+    YIELD {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Spins and yields briefly, then sleeps for short intervals; frees the core when the feed is quiet.
+     */
+    PARK {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else if (attempt < 2 * SPIN_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    abstract void idle(int attempt);
+}
@@ -0,0 +1,323 @@
+package scoreboard.journal;
+
+import scoreboard.Constants;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of board changes stored in memory-mapped segment files. A record is a type
+ * byte followed by the length-prefixed UTF-8 team names and, for score updates, both scores. The
+ * type byte is written last, so a record torn by a crash reads as the end of the journal; the
+ * zero-filled tail of a segment marks its end the same way, and opening a journal clears whatever a
+ * torn record left behind its start. A record can be cancelled after it was written by setting the
+ * {@link #CANCELLED} bit of its type byte; reading skips cancelled records.
+ * <p>
+ * Appends only copy bytes into the mapping. The written range is forced to disk once every
+ * {@code flushInterval} records, on {@link #flush()} and on {@link #close()}, so one sync covers a
+ * whole group of records. All methods are thread-safe; appends are ordered by the journal's monitor.
+ */
+public final class EventJournal implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_FLUSH_INTERVAL = 1024;
+
+    static final int MAGIC = 0x53424A31;
+    static final int HEADER_SIZE = Integer.BYTES;
+    static final byte END = 0;
+    static final byte START = 1;
+    static final byte UPDATE = 2;
+    static final byte FINISH = 3;
+    static final byte CANCELLED = (byte) 0x80;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int REPLAY_BATCH_SIZE = 4096;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int flushInterval;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private int flushedPosition;
+    private int unflushedRecords;
+    private boolean closed;
+
+    private EventJournal(Path directory, int segmentSize, int flushInterval, long segmentIndex, MappedByteBuffer segment) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.flushInterval = flushInterval;
+        this.segmentIndex = segmentIndex;
+        this.segment = segment;
+        this.flushedPosition = segment.position();
+    }
+
+    public static EventJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public static EventJournal open(Path directory, int segmentSize, int flushInterval) throws IOException {
+        if (segmentSize <= HEADER_SIZE || flushInterval <= 0) {
+            throw new IllegalArgumentException(Constants.ERR_INVALID_JOURNAL_SETTINGS);
+        }
+        Files.createDirectories(directory);
+
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            return new EventJournal(directory, segmentSize, flushInterval, 0, createSegment(directory, 0, segmentSize));
+        }
+
+        Path last = segments.getLast();
+        MappedByteBuffer segment = map(last, FileChannel.MapMode.READ_WRITE, Files.size(last));
+        while (read(segment, last) != null) {
+            // skip to the first free byte
+        }
+        clearTail(segment);
+        return new EventJournal(directory, segmentSize, flushInterval, indexOf(last), segment);
+    }
+
+    /**
+     * Applies every journalled change in {@code directory} to {@code board} and returns the number
+     * of changes the board accepted. A missing directory replays nothing.
+     */
+    public static long replay(Path directory, ScoreBoard board) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        long replayed = 0;
+        List<ScoreEvent> batch = new ArrayList<>(REPLAY_BATCH_SIZE);
+        for (Path path : segments(directory)) {
+            MappedByteBuffer segment = map(path, FileChannel.MapMode.READ_ONLY, Files.size(path));
+            ScoreEvent event;
+            while ((event = read(segment, path)) != null) {
+                batch.add(event);
+                if (batch.size() == REPLAY_BATCH_SIZE) {
+                    replayed += board.applyBatch(batch).appliedCount();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            replayed += board.applyBatch(batch).appliedCount();
+        }
+        return replayed;
+    }
+
+    public void appendStart(String homeTeam, String awayTeam) {
+        write(START, homeTeam, awayTeam, 0, 0);
+    }
+
+    public void appendUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        write(UPDATE, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    public void appendFinish(String homeTeam, String awayTeam) {
+        write(FINISH, homeTeam, awayTeam, 0, 0);
+    }
+
+    public void append(ScoreEvent event) {
+        write(event);
+    }
+
+    /**
+     * Appends {@code event} and returns where it was written, so it can be {@link #cancel cancelled}.
+     */
+    Position write(ScoreEvent event) {
+        return switch (event) {
+            case ScoreEvent.StartMatch start -> write(START, start.homeTeam(), start.awayTeam(), 0, 0);
+            case ScoreEvent.UpdateScore update -> write(UPDATE, update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+            case ScoreEvent.FinishMatch finish -> write(FINISH, finish.homeTeam(), finish.awayTeam(), 0, 0);
+        };
+    }
+
+    /**
+     * Marks a written record as cancelled, so neither replay nor a reopened journal sees it. A record
+     * that was already forced to disk is forced again.
+     */
+    synchronized void cancel(Position position) {
+        MappedByteBuffer written = position.segment();
+        int offset = position.offset();
+        written.put(offset, (byte) (written.get(offset) | CANCELLED));
+        if (written != segment || offset < flushedPosition) {
+            written.force(offset, 1);
+        }
+    }
+
+    public synchronized void flush() {
+        ensureOpen();
+        int position = segment.position();
+        if (position > flushedPosition) {
+            segment.force(flushedPosition, position - flushedPosition);
+            flushedPosition = position;
+        }
+        unflushedRecords = 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            flush();
+            closed = true;
+        }
+    }
+
+    private Position write(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return append(type, homeTeam.getBytes(StandardCharsets.UTF_8), awayTeam.getBytes(StandardCharsets.UTF_8), homeScore, awayScore);
+    }
+
+    /**
+     * Names are encoded by the caller, outside the monitor, so concurrent appends only wait for each
+     * other's copy into the mapping.
+     */
+    private synchronized Position append(byte type, byte[] home, byte[] away, int homeScore, int awayScore) {
+        ensureOpen();
+        int length = 1 + 2 * Integer.BYTES + home.length + away.length + (type == UPDATE ? 2 * Integer.BYTES : 0);
+        if (length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException(Constants.ERR_JOURNAL_RECORD_TOO_LARGE);
+        }
+        if (segment.remaining() < length) {
+            rollOver();
+        }
+
+        int start = segment.position();
+        segment.position(start + 1);
+        segment.putInt(home.length).put(home).putInt(away.length).put(away);
+        if (type == UPDATE) {
+            segment.putInt(homeScore).putInt(awayScore);
+        }
+        segment.put(start, type);
+
+        Position position = new Position(segment, start);
+        if (++unflushedRecords >= flushInterval) {
+            flush();
+        }
+        return position;
+    }
+
+    private void rollOver() {
+        flush();
+        try {
+            segment = createSegment(directory, segmentIndex + 1, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segmentIndex++;
+        flushedPosition = segment.position();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(Constants.ERR_JOURNAL_CLOSED);
+        }
+    }
+
+    static ScoreEvent read(ByteBuffer segment, Path path) {
+        while (segment.hasRemaining() && segment.get(segment.position()) != END) {
+            try {
+                byte type = segment.get();
+                String homeTeam = readName(segment, path);
+                String awayTeam = readName(segment, path);
+                ScoreEvent event = switch (type & ~CANCELLED) {
+                    case START -> new ScoreEvent.StartMatch(homeTeam, awayTeam);
+                    case UPDATE -> new ScoreEvent.UpdateScore(homeTeam, awayTeam, segment.getInt(), segment.getInt());
+                    case FINISH -> new ScoreEvent.FinishMatch(homeTeam, awayTeam);
+                    default -> throw corrupt(path);
+                };
+                if ((type & CANCELLED) == 0) {
+                    return event;
+                }
+            } catch (BufferUnderflowException e) {
+                throw corrupt(path);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Zeroes the segment from its resume position on, so the bytes of a torn record can not be read
+     * as part of a record appended over it.
+     */
+    private static void clearTail(MappedByteBuffer segment) {
+        int position = segment.position();
+        boolean cleared = false;
+        for (int i = position; i < segment.limit(); i++) {
+            if (segment.get(i) != END) {
+                segment.put(i, END);
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            segment.force(position, segment.limit() - position);
+        }
+    }
+
+    private static String readName(ByteBuffer segment, Path path) {
+        int length = segment.getInt();
+        if (length < 0 || length > segment.remaining()) {
+            throw corrupt(path);
+        }
+        byte[] name = new byte[length];
+        segment.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static MappedByteBuffer createSegment(Path directory, long index, int size) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            segment.putInt(MAGIC);
+            return segment;
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, FileChannel.MapMode mode, long size) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            MappedByteBuffer segment = channel.map(mode, 0, size);
+            if (size < HEADER_SIZE || segment.getInt() != MAGIC) {
+                throw corrupt(path);
+            }
+            return segment;
+        }
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(EventJournal::isSegment).sorted().toList();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static IllegalStateException corrupt(Path path) {
+        return new IllegalStateException(String.format(Constants.ERR_CORRUPT_JOURNAL, path.getFileName()));
+    }
+
+    record Position(MappedByteBuffer segment, int offset) {
+    }
+}
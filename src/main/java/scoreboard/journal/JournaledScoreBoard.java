@@ -0,0 +1,266 @@
+package scoreboard.journal;
+
+import scoreboard.BatchFailure;
+import scoreboard.BatchResult;
+import scoreboard.ForwardingScoreBoard;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreEvent;
+import scoreboard.common.LockStripes;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static scoreboard.common.Validators.validateNames;
+
+/**
+ * Board that records every accepted change in an {@link EventJournal}. A change is journalled
+ * before it is applied, and its record is cancelled if the wrapped board rejects it, so a failed
+ * append never leaves a change on the board that the journal is missing, and rejected changes are
+ * never replayed.
+ * <p>
+ * Like {@link scoreboard.ConcurrentScoreBoard}, every team hashes to one of a fixed number of lock
+ * stripes: starts and finishes hold the stripes of both teams, score changes the stripe of the home
+ * team. Two changes that touch the same team are therefore journalled in the order the board
+ * applies them, while changes of unrelated matches only meet in the journal's short append. The
+ * board is as thread-safe as the board it wraps.
+ */
+public class JournaledScoreBoard extends ForwardingScoreBoard implements Closeable {
+
+    private final EventJournal journal;
+    private final LockStripes stripes;
+
+    public JournaledScoreBoard(ScoreBoard delegate, EventJournal journal) {
+        super(delegate);
+        this.journal = journal;
+        this.stripes = new LockStripes(LockStripes.DEFAULT_STRIPES);
+    }
+
+    /**
+     * Replays the journal in {@code directory} into {@code board} and keeps journalling to it.
+     */
+    public static JournaledScoreBoard open(ScoreBoard board, Path directory) throws IOException {
+        EventJournal.replay(directory, board);
+        return new JournaledScoreBoard(board, EventJournal.open(directory));
+    }
+
+    @Override
+    public void startNewMatch(String homeTeam, String awayTeam) {
+        ScoreEvent event = new ScoreEvent.StartMatch(homeTeam, awayTeam);
+        event.validate();
+        stripes.lock(homeTeam, awayTeam);
+        try {
+            EventJournal.Position position = journal.write(event);
+            try {
+                delegate.startNewMatch(homeTeam, awayTeam);
+            } catch (RuntimeException e) {
+                journal.cancel(position);
+                throw e;
+            }
+        } finally {
+            stripes.unlock(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        ScoreEvent event = new ScoreEvent.UpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+        event.validate();
+        stripes.lock(homeTeam);
+        try {
+            EventJournal.Position position = journal.write(event);
+            try {
+                delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            } catch (RuntimeException e) {
+                journal.cancel(position);
+                throw e;
+            }
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    /**
+     * Increments are journalled as the absolute score they produce, so replay does not depend on
+     * the order of goals from different feeds. The score is read under the home team's stripe, which
+     * every change of the match holds.
+     */
+    @Override
+    public void incrementHomeGoal(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+        stripes.lock(homeTeam);
+        try {
+            EventJournal.Position position = ongoingMatch(homeTeam, awayTeam)
+                    .map(match -> journal.write(new ScoreEvent.UpdateScore(homeTeam, awayTeam,
+                            match.getHomeTeamPoints() + 1, match.getAwayTeamPoints())))
+                    .orElse(null);
+            try {
+                delegate.incrementHomeGoal(homeTeam, awayTeam);
+            } catch (RuntimeException e) {
+                cancel(position);
+                throw e;
+            }
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    @Override
+    public void incrementAwayGoal(String homeTeam, String awayTeam) {
+        validateNames(homeTeam, awayTeam);
+        stripes.lock(homeTeam);
+        try {
+            EventJournal.Position position = ongoingMatch(homeTeam, awayTeam)
+                    .map(match -> journal.write(new ScoreEvent.UpdateScore(homeTeam, awayTeam,
+                            match.getHomeTeamPoints(), match.getAwayTeamPoints() + 1)))
+                    .orElse(null);
+            try {
+                delegate.incrementAwayGoal(homeTeam, awayTeam);
+            } catch (RuntimeException e) {
+                cancel(position);
+                throw e;
+            }
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    /**
+     * Like the increments, compares the score read under the home team's stripe, so the new score is
+     * only journalled when the wrapped board is going to accept it.
+     */
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        ScoreEvent event = new ScoreEvent.UpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+        event.validate();
+        stripes.lock(homeTeam);
+        try {
+            EventJournal.Position position = ongoingMatch(homeTeam, awayTeam)
+                    .filter(match -> match.getHomeTeamPoints() == expectedHomeScore && match.getAwayTeamPoints() == expectedAwayScore)
+                    .map(match -> journal.write(event))
+                    .orElse(null);
+            try {
+                return delegate.compareAndSetScore(homeTeam, awayTeam, expectedHomeScore, expectedAwayScore, homeScore, awayScore);
+            } catch (RuntimeException e) {
+                cancel(position);
+                throw e;
+            }
+        } finally {
+            stripes.unlock(homeTeam);
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        ScoreEvent event = new ScoreEvent.FinishMatch(homeTeam, awayTeam);
+        event.validate();
+        stripes.lock(homeTeam, awayTeam);
+        try {
+            EventJournal.Position position = journal.write(event);
+            try {
+                delegate.finishMatch(homeTeam, awayTeam);
+            } catch (RuntimeException e) {
+                journal.cancel(position);
+                throw e;
+            }
+        } finally {
+            stripes.unlock(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Journals every well-formed event of the batch under all stripes, applies the batch and then
+     * cancels the records of the events the wrapped board rejected.
+     */
+    @Override
+    public BatchResult applyBatch(List<? extends ScoreEvent> events) {
+        stripes.lockAll();
+        try {
+            List<EventJournal.Position> positions = new ArrayList<>(events.size());
+            try {
+                for (ScoreEvent event : events) {
+                    positions.add(isWellFormed(event) ? journal.write(event) : null);
+                }
+            } catch (RuntimeException e) {
+                positions.forEach(this::cancel);
+                throw e;
+            }
+            BatchResult result = delegate.applyBatch(events);
+            for (BatchFailure failure : result.failures()) {
+                cancel(positions.get(failure.index()));
+            }
+            return result;
+        } finally {
+            stripes.unlockAll();
+        }
+    }
+
+    /**
+     * Journals every match of the checkpoint as a start and a score update, in checkpoint order, and
+     * then restores the checkpoint into the wrapped board; the records are cancelled if the board
+     * rejects it. Replay starts the matches in the same order, so matches with equal totals keep
+     * their order in the summary. Replayed matches get the start times of the replay.
+     */
+    @Override
+    public void restore(ReadableByteChannel channel) throws IOException {
+        byte[] checkpoint = Channels.newInputStream(channel).readAllBytes();
+        List<Match> matches = ScoreBoard.readCheckpoint(Channels.newChannel(new ByteArrayInputStream(checkpoint)));
+        stripes.lockAll();
+        try {
+            List<EventJournal.Position> positions = new ArrayList<>(2 * matches.size());
+            try {
+                for (Match match : matches) {
+                    positions.add(journal.write(new ScoreEvent.StartMatch(match.getHomeTeam(), match.getAwayTeam())));
+                    positions.add(journal.write(new ScoreEvent.UpdateScore(match.getHomeTeam(), match.getAwayTeam(),
+                            match.getHomeTeamPoints(), match.getAwayTeamPoints())));
+                }
+                delegate.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint)));
+            } catch (IOException | RuntimeException e) {
+                positions.forEach(journal::cancel);
+                throw e;
+            }
+        } finally {
+            stripes.unlockAll();
+        }
+    }
+
+    public void flush() {
+        journal.flush();
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+    private Optional<Match> ongoingMatch(String homeTeam, String awayTeam) {
+        return delegate.findMatchByTeam(homeTeam)
+                .filter(match -> match.getHomeTeam().equals(homeTeam) && match.getAwayTeam().equals(awayTeam));
+    }
+
+    private void cancel(EventJournal.Position position) {
+        if (position != null) {
+            journal.cancel(position);
+        }
+    }
+
+    private static boolean isWellFormed(ScoreEvent event) {
+        if (event == null) {
+            return false;
+        }
+        try {
+            event.validate();
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package scoreboard.metrics;
+
+import scoreboard.BatchFailure;
+import scoreboard.BatchResult;
+import scoreboard.ForwardingScoreBoard;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreEvent;
+import scoreboard.SummaryDelta;
+import scoreboard.SummarySnapshot;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Board that times every operation into a {@link LatencyHistogram} and counts rejected calls by
+ * {@link Rejection}. Recording costs two clock reads and a few atomic increments per call. To turn
+ * instrumentation off, use the wrapped board directly.
+ */
+public class InstrumentedScoreBoard extends ForwardingScoreBoard {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final Rejection[] REJECTIONS = Rejection.values();
+
+    private final LatencyHistogram[] latencies;
+    private final LongAdder[] rejections;
+
+    public InstrumentedScoreBoard(ScoreBoard delegate) {
+        super(delegate);
+        this.latencies = new LatencyHistogram[OPERATIONS.length];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+        this.rejections = new LongAdder[REJECTIONS.length];
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void startNewMatch(String homeTeam, String awayTeam) {
+        long start = System.nanoTime();
+        try {
+            delegate.startNewMatch(homeTeam, awayTeam);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.START_NEW_MATCH, start);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long start = System.nanoTime();
+        try {
+            delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public void incrementHomeGoal(String homeTeam, String awayTeam) {
+        long start = System.nanoTime();
+        try {
+            delegate.incrementHomeGoal(homeTeam, awayTeam);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.INCREMENT_HOME_GOAL, start);
+        }
+    }
+
+    @Override
+    public void incrementAwayGoal(String homeTeam, String awayTeam) {
+        long start = System.nanoTime();
+        try {
+            delegate.incrementAwayGoal(homeTeam, awayTeam);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.INCREMENT_AWAY_GOAL, start);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        long start = System.nanoTime();
+        try {
+            return delegate.compareAndSetScore(homeTeam, awayTeam, expectedHomeScore, expectedAwayScore, homeScore, awayScore);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.COMPARE_AND_SET_SCORE, start);
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        long start = System.nanoTime();
+        try {
+            delegate.finishMatch(homeTeam, awayTeam);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.FINISH_MATCH, start);
+        }
+    }
+
+    @Override
+    public BatchResult applyBatch(List<? extends ScoreEvent> events) {
+        long start = System.nanoTime();
+        try {
+            BatchResult result = delegate.applyBatch(events);
+            for (BatchFailure failure : result.failures()) {
+                reject(failure.error());
+            }
+            return result;
+        } finally {
+            record(Operation.APPLY_BATCH, start);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        long start = System.nanoTime();
+        try {
+            return delegate.getSummary();
+        } finally {
+            record(Operation.GET_SUMMARY, start);
+        }
+    }
+
+    @Override
+    public SummarySnapshot getSnapshot() {
+        long start = System.nanoTime();
+        try {
+            return delegate.getSnapshot();
+        } finally {
+            record(Operation.GET_SNAPSHOT, start);
+        }
+    }
+
+    @Override
+    public SummaryDelta getSummaryDelta(long sinceVersion) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getSummaryDelta(sinceVersion);
+        } finally {
+            record(Operation.GET_SUMMARY_DELTA, start);
+        }
+    }
+
+    @Override
+    public List<Match> getSummaryPage(int offset, int limit) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getSummaryPage(offset, limit);
+        } catch (IllegalArgumentException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.GET_SUMMARY_PAGE, start);
+        }
+    }
+
+    @Override
+    public List<Match> getTopMatches(int limit) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getTopMatches(limit);
+        } catch (IllegalArgumentException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.GET_TOP_MATCHES, start);
+        }
+    }
+
+    @Override
+    public String renderSummary() {
+        long start = System.nanoTime();
+        try {
+            return delegate.renderSummary();
+        } finally {
+            record(Operation.RENDER_SUMMARY, start);
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        long start = System.nanoTime();
+        try {
+            return delegate.findMatchByTeam(team);
+        } catch (IllegalArgumentException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.FIND_MATCH_BY_TEAM, start);
+        }
+    }
+
+    @Override
+    public void writeCheckpoint(WritableByteChannel channel) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.writeCheckpoint(channel);
+        } finally {
+            record(Operation.WRITE_CHECKPOINT, start);
+        }
+    }
+
+    @Override
+    public void restore(ReadableByteChannel channel) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.restore(channel);
+        } catch (IllegalStateException e) {
+            reject(e);
+            throw e;
+        } finally {
+            record(Operation.RESTORE, start);
+        }
+    }
+
+    public MetricsSnapshot getMetrics() {
+        Map<Operation, LatencySnapshot> latencySnapshots = new EnumMap<>(Operation.class);
+        for (Operation operation : OPERATIONS) {
+            latencySnapshots.put(operation, latencies[operation.ordinal()].snapshot());
+        }
+        Map<Rejection, Long> rejectionCounts = new EnumMap<>(Rejection.class);
+        for (Rejection rejection : REJECTIONS) {
+            rejectionCounts.put(rejection, rejections[rejection.ordinal()].sum());
+        }
+        return new MetricsSnapshot(latencySnapshots, rejectionCounts, delegate.getMatchCount(), delegate.getVersion());
+    }
+
+    long operationCount(Operation operation) {
+        return latencies[operation.ordinal()].count();
+    }
+
+    long rejectionCount(Rejection rejection) {
+        return rejections[rejection.ordinal()].sum();
+    }
+
+    LatencySnapshot latency(Operation operation) {
+        return latencies[operation.ordinal()].snapshot();
+    }
+
+    /**
+     * Registers the metrics of this board as {@code scoreboard:type=ScoreBoard,name=<name>} and
+     * returns the name it was registered under.
+     */
+    public ObjectName registerMBean(MBeanServer server, String name) throws JMException {
+        ObjectName objectName = ObjectName.getInstance("scoreboard:type=ScoreBoard,name=" + ObjectName.quote(name));
+        server.registerMBean(new ScoreBoardMetrics(this), objectName);
+        return objectName;
+    }
+
+    private void record(Operation operation, long start) {
+        latencies[operation.ordinal()].record(System.nanoTime() - start);
+    }
+
+    private void reject(RuntimeException error) {
+        rejections[Rejection.classify(error).ordinal()].increment();
+    }
+}
@@ -0,0 +1,85 @@
+package scoreboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds, in the spirit of HdrHistogram. Values below
+ * 32 get one bucket each; above that every power of two is split into 16 buckets, so a recorded
+ * value is reported within 1/16 of its true value. Recording never allocates.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+    private final LongAccumulator max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.total = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded latencies without computing any percentiles.
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public LatencySnapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = counts.get(i);
+            count += buckets[i];
+        }
+        if (count == 0) {
+            return LatencySnapshot.EMPTY;
+        }
+        long maximum = max.get();
+        return new LatencySnapshot(count, total.sum() / count,
+                percentile(buckets, count, 0.50, maximum),
+                percentile(buckets, count, 0.90, maximum),
+                percentile(buckets, count, 0.99, maximum),
+                percentile(buckets, count, 0.999, maximum),
+                maximum);
+    }
+
+    static int indexOf(long value) {
+        int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(int index) {
+        int shift = Math.max(0, index / SUB_BUCKETS - 1);
+        long subBucket = index - (long) shift * SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long percentile(long[] buckets, long count, double quantile, long maximum) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        int index = 0;
+        while (seen < rank) {
+            seen += buckets[index++];
+        }
+        return Math.min(highestValueOf(index - 1), maximum);
+    }
+}
@@ -0,0 +1,7 @@
+package scoreboard.metrics;
+
+public record LatencySnapshot(long count, long meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos,
+                              long maxNanos) {
+
+    static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0, 0, 0, 0);
+}
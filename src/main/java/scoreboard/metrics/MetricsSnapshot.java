@@ -0,0 +1,20 @@
+package scoreboard.metrics;
+
+import java.util.Map;
+
+public record MetricsSnapshot(Map<Operation, LatencySnapshot> latencies, Map<Rejection, Long> rejections,
+                              int boardSize, long boardVersion) {
+
+    public MetricsSnapshot {
+        latencies = Map.copyOf(latencies);
+        rejections = Map.copyOf(rejections);
+    }
+
+    public long count(Operation operation) {
+        return latencies.get(operation).count();
+    }
+
+    public long rejections(Rejection rejection) {
+        return rejections.get(rejection);
+    }
+}
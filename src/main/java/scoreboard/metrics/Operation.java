@@ -0,0 +1,20 @@
+package scoreboard.metrics;
+
+public enum Operation {
+    START_NEW_MATCH,
+    UPDATE_SCORE,
+    INCREMENT_HOME_GOAL,
+    INCREMENT_AWAY_GOAL,
+    COMPARE_AND_SET_SCORE,
+    FINISH_MATCH,
+    APPLY_BATCH,
+    GET_SUMMARY,
+    GET_SNAPSHOT,
+    GET_SUMMARY_DELTA,
+    GET_SUMMARY_PAGE,
+    GET_TOP_MATCHES,
+    RENDER_SUMMARY,
+    FIND_MATCH_BY_TEAM,
+    WRITE_CHECKPOINT,
+    RESTORE
+}
@@ -0,0 +1,46 @@
+package scoreboard.metrics;
+
+import scoreboard.RejectedArgumentException;
+import scoreboard.RejectedStateException;
+import scoreboard.RejectionReason;
+
+/**
+ * Reason a board rejected a call, taken from the {@link RejectionReason} of the rejection it threw.
+ * Any other error counts as {@link #OTHER}.
+ */
+public enum Rejection {
+    GAME_EXISTS(RejectionReason.GAME_EXISTS),
+    SAME_TEAMS(RejectionReason.SAME_TEAMS),
+    TEAMS_PLAYING(RejectionReason.TEAMS_PLAYING),
+    INVALID_NAMES(RejectionReason.INVALID_NAMES),
+    GAME_NOT_FOUND(RejectionReason.GAME_NOT_FOUND),
+    NEGATIVE_SCORE(RejectionReason.NEGATIVE_SCORE),
+    NEGATIVE_OFFSET(RejectionReason.NEGATIVE_OFFSET),
+    NEGATIVE_LIMIT(RejectionReason.NEGATIVE_LIMIT),
+    NULL_EVENT(RejectionReason.NULL_EVENT),
+    OTHER(null);
+
+    private static final Rejection[] BY_REASON = new Rejection[RejectionReason.values().length];
+
+    static {
+        for (Rejection rejection : values()) {
+            if (rejection.reason != null) {
+                BY_REASON[rejection.reason.ordinal()] = rejection;
+            }
+        }
+    }
+
+    private final RejectionReason reason;
+
+    Rejection(RejectionReason reason) {
+        this.reason = reason;
+    }
+
+    public static Rejection classify(RuntimeException error) {
+        return switch (error) {
+            case RejectedArgumentException rejected -> BY_REASON[rejected.reason().ordinal()];
+            case RejectedStateException rejected -> BY_REASON[rejected.reason().ordinal()];
+            default -> OTHER;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package scoreboard.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads every attribute straight from the board's counters, so polling one attribute never
+ * snapshots the histograms or the summary it does not report.
+ */
+class ScoreBoardMetrics implements ScoreBoardMetricsMXBean {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final Rejection[] REJECTIONS = Rejection.values();
+
+    private final InstrumentedScoreBoard board;
+
+    ScoreBoardMetrics(InstrumentedScoreBoard board) {
+        this.board = board;
+    }
+
+    @Override
+    public int getBoardSize() {
+        return board.getMatchCount();
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return board.getVersion();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Operation operation : OPERATIONS) {
+            counts.put(operation.name(), board.operationCount(operation));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Rejection rejection : REJECTIONS) {
+            counts.put(rejection.name(), board.rejectionCount(rejection));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyNanos() {
+        Map<String, Long> latencies = new TreeMap<>();
+        for (Operation operation : OPERATIONS) {
+            LatencySnapshot latency = board.latency(operation);
+            latencies.put(operation.name() + ".mean", latency.meanNanos());
+            latencies.put(operation.name() + ".p50", latency.p50Nanos());
+            latencies.put(operation.name() + ".p90", latency.p90Nanos());
+            latencies.put(operation.name() + ".p99", latency.p99Nanos());
+            latencies.put(operation.name() + ".p999", latency.p999Nanos());
+            latencies.put(operation.name() + ".max", latency.maxNanos());
+        }
+        return latencies;
+    }
+}
@@ -0,0 +1,20 @@
+package scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of an {@link InstrumentedScoreBoard}. Latency keys combine the operation and the
+ * statistic, for example {@code UPDATE_SCORE.p99}; all latencies are in nanoseconds.
+ */
+public interface ScoreBoardMetricsMXBean {
+
+    int getBoardSize();
+
+    long getBoardVersion();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getRejectionCounts();
+
+    Map<String, Long> getLatencyNanos();
+}
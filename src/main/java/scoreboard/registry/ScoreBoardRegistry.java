@@ -0,0 +1,219 @@
+package scoreboard.registry;
+
+import scoreboard.BatchResult;
+import scoreboard.Constants;
+import scoreboard.Match;
+import scoreboard.RejectedArgumentException;
+import scoreboard.RejectionReason;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreEvent;
+import scoreboard.SimpleScoreBoard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Hosts one {@link ScoreBoard} per tournament. Tournaments are partitioned over a fixed number of
+ * shards by their id; every shard owns its boards on a single thread, so boards are plain
+ * {@link SimpleScoreBoard}s and no lock is shared between shards. Operations are queued to the
+ * owning shard and complete the returned future there.
+ * <p>
+ * {@link #getTopMatches(int)} asks every shard for its local top matches in parallel and merges the
+ * sorted results.
+ */
+public class ScoreBoardRegistry implements AutoCloseable {
+
+    private final Shard[] shards;
+    private volatile boolean closed;
+
+    public ScoreBoardRegistry() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ScoreBoardRegistry(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException(Constants.ERR_INVALID_SHARDS);
+        }
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    public CompletableFuture<Void> createBoard(String tournamentId) {
+        return submit(tournamentId, boards -> {
+            if (boards.containsKey(tournamentId)) {
+                throw new IllegalArgumentException(String.format(Constants.ERR_TOURNAMENT_EXISTS, tournamentId));
+            }
+            boards.put(tournamentId, new SimpleScoreBoard());
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> removeBoard(String tournamentId) {
+        return submit(tournamentId, boards -> {
+            if (boards.remove(tournamentId) == null) {
+                throw new IllegalArgumentException(String.format(Constants.ERR_TOURNAMENT_NOT_FOUND, tournamentId));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code operation} on the board of the tournament, on the thread that owns it. The board
+     * must not escape the operation.
+     */
+    public <T> CompletableFuture<T> execute(String tournamentId, Function<ScoreBoard, T> operation) {
+        return submit(tournamentId, boards -> {
+            ScoreBoard board = boards.get(tournamentId);
+            if (board == null) {
+                throw new IllegalArgumentException(String.format(Constants.ERR_TOURNAMENT_NOT_FOUND, tournamentId));
+            }
+            return operation.apply(board);
+        });
+    }
+
+    public CompletableFuture<Void> startNewMatch(String tournamentId, String homeTeam, String awayTeam) {
+        return execute(tournamentId, board -> {
+            board.startNewMatch(homeTeam, awayTeam);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> updateScore(String tournamentId, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return execute(tournamentId, board -> {
+            board.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> finishMatch(String tournamentId, String homeTeam, String awayTeam) {
+        return execute(tournamentId, board -> {
+            board.finishMatch(homeTeam, awayTeam);
+            return null;
+        });
+    }
+
+    public CompletableFuture<BatchResult> applyBatch(String tournamentId, List<? extends ScoreEvent> events) {
+        return execute(tournamentId, board -> board.applyBatch(events));
+    }
+
+    public CompletableFuture<List<Match>> getSummary(String tournamentId) {
+        return execute(tournamentId, ScoreBoard::getSummary);
+    }
+
+    public CompletableFuture<List<TournamentMatch>> getTopMatches(int limit) {
+        if (limit < 0) {
+            throw new RejectedArgumentException(RejectionReason.NEGATIVE_LIMIT, Constants.ERR_NEGATIVE_LIMIT);
+        }
+        ensureOpen();
+
+        List<CompletableFuture<List<TournamentMatch>>> shardTops = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            shardTops.add(CompletableFuture.supplyAsync(() -> shard.topMatches(limit), shard.executor));
+        }
+        return CompletableFuture.allOf(shardTops.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> merge(shardTops.stream().map(CompletableFuture::join).toList(), limit));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(String tournamentId, Function<Map<String, ScoreBoard>, T> task) {
+        if (tournamentId == null || tournamentId.isBlank()) {
+            throw new IllegalArgumentException(Constants.ERR_INVALID_TOURNAMENT_ID);
+        }
+        ensureOpen();
+
+        Shard shard = shards[Math.floorMod(tournamentId.hashCode(), shards.length)];
+        return CompletableFuture.supplyAsync(() -> task.apply(shard.boards), shard.executor);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(Constants.ERR_REGISTRY_CLOSED);
+        }
+    }
+
+    /**
+     * Merges lists that are each in {@link TournamentMatch#SUMMARY_ORDER} into the first
+     * {@code limit} entries of their combined order.
+     */
+    static List<TournamentMatch> merge(List<List<TournamentMatch>> sortedLists, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (first, second) -> TournamentMatch.SUMMARY_ORDER.compare(first.current(), second.current()));
+        for (List<TournamentMatch> list : sortedLists) {
+            if (!list.isEmpty()) {
+                heads.add(new Cursor(list));
+            }
+        }
+
+        List<TournamentMatch> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor head = heads.poll();
+            merged.add(head.current());
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor {
+
+        private final List<TournamentMatch> list;
+        private int index;
+
+        Cursor(List<TournamentMatch> list) {
+            this.list = list;
+        }
+
+        TournamentMatch current() {
+            return list.get(index);
+        }
+
+        boolean advance() {
+            return ++index < list.size();
+        }
+    }
+
+    private static final class Shard {
+
+        private final ExecutorService executor;
+        private final Map<String, ScoreBoard> boards;
+
+        Shard(int index) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "scoreboard-shard-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.boards = new HashMap<>();
+        }
+
+        List<TournamentMatch> topMatches(int limit) {
+            List<List<TournamentMatch>> tops = new ArrayList<>(boards.size());
+            for (Map.Entry<String, ScoreBoard> entry : boards.entrySet()) {
+                List<Match> top = entry.getValue().getTopMatches(limit);
+                List<TournamentMatch> entries = new ArrayList<>(top.size());
+                for (Match match : top) {
+                    entries.add(new TournamentMatch(entry.getKey(), match));
+                }
+                tops.add(entries);
+            }
+            return merge(tops, limit);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package scoreboard.registry;
+
+import scoreboard.Match;
+
+import java.util.Comparator;
+
+public record TournamentMatch(String tournamentId, Match match) {
+
+    /**
+     * Summary order across boards, the same {@link Match#SUMMARY_ORDER} every board keeps.
+     */
+    static final Comparator<TournamentMatch> SUMMARY_ORDER = Comparator.comparing(TournamentMatch::match, Match.SUMMARY_ORDER);
+}
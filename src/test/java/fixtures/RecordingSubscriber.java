@@ -0,0 +1,56 @@
+package fixtures;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+public class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final long initialDemand;
+    private final List<T> items = new CopyOnWriteArrayList<>();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private volatile Flow.Subscription subscription;
+
+    public RecordingSubscriber(long initialDemand) {
+        this.initialDemand = initialDemand;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (initialDemand > 0) {
+            subscription.request(initialDemand);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        errors.add(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        // board streams never complete
+    }
+
+    public void request(long n) {
+        subscription.request(n);
+    }
+
+    public void cancel() {
+        subscription.cancel();
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public List<Throwable> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,29 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchResultTest {
+
+    @Test
+    void givenNoFailures_whenCheckingResult_thenItIsSuccessful() {
+        assertTrue(new BatchResult(3, List.of()).isSuccessful());
+    }
+
+    @Test
+    void givenFailures_whenCheckingResult_thenItIsNotSuccessfulAndFailuresAreImmutable() {
+        List<BatchFailure> failures = new ArrayList<>();
+        failures.add(new BatchFailure(0, new ScoreEvent.FinishMatch("TeamA", "TeamB"), new IllegalArgumentException("boom")));
+
+        BatchResult result = new BatchResult(0, failures);
+        failures.clear();
+
+        assertFalse(result.isSuccessful());
+        assertEquals(1, result.failures().size());
+        assertThrows(UnsupportedOperationException.class, () -> result.failures().clear());
+    }
+}
@@ -0,0 +1,60 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogTest {
+
+    private final ChangeLog log = new ChangeLog(4);
+
+    @Test
+    void givenRecordedChanges_whenReadingSinceVersion_thenLatestStateOfEachMatchIsReturned() {
+        Match match = new Match("Mexico", "Canada");
+        log.record(1, ChangeLog.STARTED, match);
+        match.updateScore(1, 0);
+        log.record(2, ChangeLog.RESCORED, match);
+        match.updateScore(2, 0);
+        log.record(3, ChangeLog.RESCORED, match);
+
+        SummaryDelta delta = log.since(1, 3);
+
+        assertEquals(3, delta.version());
+        assertEquals(1, delta.matches().size());
+        assertEquals(2, delta.matches().getFirst().getHomeTeamPoints());
+        assertEquals(match.getSequence(), delta.matches().getFirst().getSequence());
+        assertEquals(match.getStartTime(), delta.matches().getFirst().getStartTime());
+    }
+
+    @Test
+    void givenMatchStartedAndFinishedSinceVersion_whenReadingDelta_thenItIsLeftOut() {
+        Match match = new Match("Mexico", "Canada");
+        log.record(1, ChangeLog.STARTED, match);
+        log.record(2, ChangeLog.FINISHED, match);
+
+        SummaryDelta delta = log.since(0, 2);
+
+        assertTrue(delta.matches().isEmpty());
+        assertTrue(delta.removed().isEmpty());
+        assertEquals(1, log.since(1, 2).removed().size());
+    }
+
+    @Test
+    void givenMoreChangesThanCapacity_whenReadingOldVersion_thenNothingIsReturned() {
+        Match match = new Match("Mexico", "Canada");
+        for (int version = 1; version <= 5; version++) {
+            log.record(version, ChangeLog.RESCORED, match);
+        }
+
+        assertNull(log.since(0, 5));
+        assertNotNull(log.since(1, 5));
+    }
+
+    @Test
+    void givenMissingVersion_whenReadingDelta_thenNothingIsReturned() {
+        log.record(2, ChangeLog.STARTED, new Match("Mexico", "Canada"));
+
+        assertNull(log.since(0, 2));
+        assertNotNull(log.since(1, 2));
+    }
+}
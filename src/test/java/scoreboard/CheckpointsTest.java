@@ -0,0 +1,162 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_CORRUPT_CHECKPOINT;
+import static scoreboard.Constants.ERR_UNSUPPORTED_CHECKPOINT_VERSION;
+
+class CheckpointsTest {
+
+    @Test
+    void givenMatches_whenWriting_thenTheyAreStoredInStartOrderWithFreshSequences() throws IOException {
+        Match first = new Match("Mexico", "Canada", 1, 1, 100);
+        Match second = new Match("Spain", "Brazil", 5, 0, 200);
+
+        List<Match> restored = read(write(new SummarySnapshot(2, List.of(second, first))));
+
+        assertEquals(2, restored.size());
+        assertEquals("Mexico", restored.get(0).getHomeTeam());
+        assertEquals(100, restored.get(0).getStartTime());
+        assertEquals("Spain", restored.get(1).getHomeTeam());
+        assertEquals(5, restored.get(1).getHomeTeamPoints());
+        assertTrue(restored.get(0).getSequence() > second.getSequence());
+        assertTrue(restored.get(1).getSequence() > restored.get(0).getSequence());
+    }
+
+    @Test
+    void givenChannelDeliveringPartialReads_whenReading_thenWholeCheckpointIsRead() throws IOException {
+        byte[] checkpoint = write(new SummarySnapshot(1, List.of(new Match("Mexico", "Canada"))));
+        Pipe pipe = Pipe.open();
+        Thread writer = new Thread(() -> {
+            try (Pipe.SinkChannel sink = pipe.sink()) {
+                for (byte b : checkpoint) {
+                    sink.write(ByteBuffer.wrap(new byte[]{b}));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        writer.start();
+
+        try (Pipe.SourceChannel source = pipe.source()) {
+            assertEquals(1, Checkpoints.read(source).size());
+        }
+    }
+
+    @Test
+    void givenWrongMagic_whenReading_thenThrows() {
+        assertCorrupt(header(0x12345678, Checkpoints.FORMAT_VERSION, 0, 0).array());
+    }
+
+    @Test
+    void givenUnsupportedFormatVersion_whenReading_thenThrows() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> read(header(Checkpoints.MAGIC, 7, 0, 0).array()));
+        assertEquals(String.format(ERR_UNSUPPORTED_CHECKPOINT_VERSION, 7), exception.getMessage());
+    }
+
+    @Test
+    void givenTruncatedHeader_whenReading_thenThrows() {
+        assertCorrupt(new byte[]{0x53, 0x42});
+    }
+
+    @Test
+    void givenTruncatedBody_whenReading_thenThrows() throws IOException {
+        byte[] checkpoint = write(new SummarySnapshot(1, List.of(new Match("Mexico", "Canada"))));
+
+        assertCorrupt(Arrays.copyOf(checkpoint, checkpoint.length - 1));
+    }
+
+    @Test
+    void givenNegativeCount_whenReading_thenThrows() {
+        assertCorrupt(header(Checkpoints.MAGIC, Checkpoints.FORMAT_VERSION, -1, 0).array());
+    }
+
+    @Test
+    void givenNegativeBodyLength_whenReading_thenThrows() {
+        assertCorrupt(header(Checkpoints.MAGIC, Checkpoints.FORMAT_VERSION, 0, -1).array());
+    }
+
+    @Test
+    void givenCountLargerThanBody_whenReading_thenThrows() {
+        assertCorrupt(header(Checkpoints.MAGIC, Checkpoints.FORMAT_VERSION, 1, 0).array());
+    }
+
+    @Test
+    void givenTrailingBytes_whenReading_thenThrows() {
+        ByteBuffer checkpoint = header(Checkpoints.MAGIC, Checkpoints.FORMAT_VERSION, 0, 1);
+        assertCorrupt(Arrays.copyOf(checkpoint.array(), Checkpoints.HEADER_SIZE + 1));
+    }
+
+    @Test
+    void givenInvalidNameLength_whenReading_thenThrows() {
+        assertCorrupt(checkpoint(body -> body.putInt(-1).putInt(0).putInt(0).putInt(0).putLong(0)));
+        assertCorrupt(checkpoint(body -> body.putInt(100).putInt(0).putInt(0).putInt(0).putLong(0)));
+    }
+
+    @Test
+    void givenNegativeScore_whenReading_thenThrows() {
+        assertCorrupt(checkpoint(body -> putMatch(body, "Mexico", "Canada", -1)));
+    }
+
+    @Test
+    void givenTeamPlayingTwice_whenReading_thenThrows() {
+        assertCorrupt(checkpoint(body -> {
+            putMatch(body, "Mexico", "Canada", 0);
+            putMatch(body, "Spain", "Mexico", 0);
+        }, 2));
+    }
+
+    private interface BodyWriter {
+        void write(ByteBuffer body);
+    }
+
+    private static byte[] checkpoint(BodyWriter writer) {
+        return checkpoint(writer, 1);
+    }
+
+    private static byte[] checkpoint(BodyWriter writer, int count) {
+        ByteBuffer body = ByteBuffer.allocate(256);
+        writer.write(body);
+        body.flip();
+        ByteBuffer checkpoint = ByteBuffer.allocate(Checkpoints.HEADER_SIZE + body.remaining());
+        checkpoint.putInt(Checkpoints.MAGIC).putInt(Checkpoints.FORMAT_VERSION).putInt(count).putInt(body.remaining()).put(body);
+        return checkpoint.array();
+    }
+
+    private static void putMatch(ByteBuffer body, String home, String away, int homeScore) {
+        byte[] homeName = home.getBytes(StandardCharsets.UTF_8);
+        byte[] awayName = away.getBytes(StandardCharsets.UTF_8);
+        body.putInt(homeName.length).put(homeName).putInt(awayName.length).put(awayName).putInt(homeScore).putInt(0).putLong(0);
+    }
+
+    private static ByteBuffer header(int magic, int formatVersion, int count, int bodyLength) {
+        return ByteBuffer.allocate(Checkpoints.HEADER_SIZE).putInt(magic).putInt(formatVersion).putInt(count).putInt(bodyLength);
+    }
+
+    private static byte[] write(SummarySnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Checkpoints.write(snapshot, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static List<Match> read(byte[] checkpoint) throws IOException {
+        return Checkpoints.read(Channels.newChannel(new ByteArrayInputStream(checkpoint)));
+    }
+
+    private static void assertCorrupt(byte[] checkpoint) {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> read(checkpoint));
+        assertEquals(ERR_CORRUPT_CHECKPOINT, exception.getMessage());
+    }
+}
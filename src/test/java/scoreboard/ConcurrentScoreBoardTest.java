@@ -0,0 +1,354 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import scoreboard.common.LockStripes;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_INVALID_STRIPES;
+
+class ConcurrentScoreBoardTest extends ScoreBoardTest {
+
+    private static final int THREADS = 8;
+
+    @Override
+    protected ScoreBoard createScoreBoard() {
+        return new ConcurrentScoreBoard();
+    }
+
+    @Override
+    protected ScoreBoard createScoreBoard(Executor eventExecutor) {
+        return new ConcurrentScoreBoard(LockStripes.DEFAULT_STRIPES, eventExecutor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void givenNonPositiveStripeCount_whenCreatingBoard_thenThrowsException(int stripes) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new ConcurrentScoreBoard(stripes));
+        assertEquals(ERR_INVALID_STRIPES, exception.getMessage());
+    }
+
+    @Test
+    void givenSingleStripe_whenStartingAndFinishingMatches_thenBoardStaysConsistent() {
+        ScoreBoard board = new ConcurrentScoreBoard(1);
+        board.startNewMatch("TeamA", "TeamB");
+        board.updateScore("TeamA", "TeamB", 1, 0);
+        board.finishMatch("TeamA", "TeamB");
+        assertTrue(board.getSummary().isEmpty());
+    }
+
+    @Test
+    void givenManyThreadsStartingSameMatch_whenRacing_thenExactlyOneSucceeds() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        runConcurrently(thread -> () -> {
+            try {
+                scoreBoard.startNewMatch("TeamA", "TeamB");
+                started.incrementAndGet();
+            } catch (IllegalArgumentException | IllegalStateException ignored) {
+                // lost the race
+            }
+            return null;
+        });
+        assertEquals(1, started.get());
+        assertEquals(1, scoreBoard.getSummary().size());
+    }
+
+    @Test
+    void givenManyThreadsStartingOverlappingMatches_whenRacing_thenNoTeamPlaysTwice() throws Exception {
+        int teams = 12;
+        runConcurrently(thread -> () -> {
+            for (int home = 0; home < teams; home++) {
+                for (int away = 0; away < teams; away++) {
+                    int h = (home + thread) % teams;
+                    if (h == away) {
+                        continue;
+                    }
+                    try {
+                        scoreBoard.startNewMatch("Team" + h, "Team" + away);
+                    } catch (IllegalArgumentException | IllegalStateException ignored) {
+                        // conflicting match already on the board
+                    }
+                }
+            }
+            return null;
+        });
+        assertNoTeamPlaysTwice(scoreBoard.getSummary());
+        assertEquals(teams / 2, scoreBoard.getSummary().size());
+    }
+
+    @Test
+    void givenThreadsUpdatingDifferentMatches_whenRacing_thenEveryMatchHasItsLastScore() throws Exception {
+        for (int i = 0; i < THREADS; i++) {
+            scoreBoard.startNewMatch("Home" + i, "Away" + i);
+        }
+        int updates = 1_000;
+        runConcurrently(thread -> () -> {
+            for (int goal = 1; goal <= updates; goal++) {
+                scoreBoard.updateScore("Home" + thread, "Away" + thread, goal, thread);
+            }
+            return null;
+        });
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(THREADS, summary.size());
+        for (Match match : summary) {
+            assertEquals(updates, match.getHomeTeamPoints());
+            assertEquals(match.getHomeTeam().substring(4), String.valueOf(match.getAwayTeamPoints()));
+        }
+    }
+
+    @Test
+    void givenThreadsIncrementingSameMatch_whenRacing_thenNoGoalIsLost() throws Exception {
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        int goals = 1_000;
+        runConcurrently(thread -> () -> {
+            for (int goal = 0; goal < goals; goal++) {
+                if (thread % 2 == 0) {
+                    scoreBoard.incrementHomeGoal("Mexico", "Canada");
+                } else {
+                    scoreBoard.incrementAwayGoal("Mexico", "Canada");
+                }
+            }
+            return null;
+        });
+        Match match = scoreBoard.findMatchByTeam("Mexico").orElseThrow();
+        assertEquals(THREADS / 2 * goals, match.getHomeTeamPoints());
+        assertEquals(THREADS / 2 * goals, match.getAwayTeamPoints());
+    }
+
+    @Test
+    void givenThreadsComparingAndSettingSameMatch_whenRetrying_thenEveryChangeIsApplied() throws Exception {
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        int goals = 500;
+        runConcurrently(thread -> () -> {
+            for (int goal = 0; goal < goals; goal++) {
+                Match current;
+                do {
+                    current = scoreBoard.findMatchByTeam("Mexico").orElseThrow();
+                } while (!scoreBoard.compareAndSetScore("Mexico", "Canada", current.getHomeTeamPoints(),
+                        current.getAwayTeamPoints(), current.getHomeTeamPoints() + 1, current.getAwayTeamPoints()));
+            }
+            return null;
+        });
+        assertEquals(THREADS * goals, scoreBoard.findMatchByTeam("Mexico").orElseThrow().getHomeTeamPoints());
+    }
+
+    @Test
+    void givenThreadsStartingAndFinishingSharedTeams_whenRacing_thenBoardEndsEmpty() throws Exception {
+        runConcurrently(thread -> () -> {
+            for (int round = 0; round < 500; round++) {
+                String home = "Team" + (round % 4);
+                String away = "Team" + (4 + thread % 4);
+                try {
+                    scoreBoard.startNewMatch(home, away);
+                    scoreBoard.finishMatch(home, away);
+                } catch (IllegalArgumentException | IllegalStateException ignored) {
+                    // another thread owns one of the teams
+                }
+            }
+            return null;
+        });
+        assertTrue(scoreBoard.getSummary().isEmpty());
+    }
+
+    @Test
+    void givenWrites_whenReadingSnapshot_thenVersionPublishedByWritersIsReturned() {
+        ScoreBoard board = new ConcurrentScoreBoard(4);
+        board.startNewMatch("TeamA", "TeamB");
+        SummarySnapshot before = board.getSnapshot();
+        board.updateScore("TeamA", "TeamB", 1, 2);
+
+        SummarySnapshot snapshot = board.getSnapshot();
+
+        assertEquals(2, snapshot.getVersion());
+        assertEquals(board.getVersion(), snapshot.getVersion());
+        assertEquals(3, snapshot.getMatches().getFirst().getTotalScore());
+        assertSame(snapshot, board.getSnapshot());
+        assertEquals(1, before.getVersion());
+        assertEquals(0, before.getMatches().getFirst().getTotalScore());
+    }
+
+    @Test
+    void givenBatch_whenApplied_thenEveryChangeIsPublishedInOneVersionStep() {
+        ScoreBoard board = new ConcurrentScoreBoard(4);
+        board.startNewMatch("TeamA", "TeamB");
+        SummarySnapshot before = board.getSnapshot();
+
+        BatchResult result = board.applyBatch(List.of(
+                new ScoreEvent.StartMatch("TeamC", "TeamD"),
+                new ScoreEvent.UpdateScore("TeamC", "TeamD", 2, 0),
+                new ScoreEvent.UpdateScore("TeamX", "TeamY", 1, 0),
+                new ScoreEvent.FinishMatch("TeamA", "TeamB")));
+        SummaryDelta delta = board.getSummaryDelta(before.getVersion());
+
+        assertEquals(3, result.appliedCount());
+        assertEquals(before.getVersion() + 3, board.getVersion());
+        assertEquals(List.of("TeamC"), board.getSummary().stream().map(Match::getHomeTeam).toList());
+        assertFalse(delta.full());
+        assertEquals(2, delta.matches().getFirst().getTotalScore());
+        assertEquals("TeamA", delta.removed().getFirst().getHomeTeam());
+        assertEquals(1, before.getMatches().size());
+    }
+
+    @Test
+    void givenBatchesAndReaders_whenRacing_thenNoSnapshotShowsPartOfABatch() throws Exception {
+        int batches = 500;
+        AtomicInteger finishedWriters = new AtomicInteger();
+        runConcurrently(thread -> () -> {
+            if (thread == 0) {
+                for (int i = 0; i < batches; i++) {
+                    scoreBoard.applyBatch(List.of(
+                            new ScoreEvent.StartMatch("TeamA", "TeamB"),
+                            new ScoreEvent.StartMatch("TeamC", "TeamD")));
+                    scoreBoard.applyBatch(List.of(
+                            new ScoreEvent.FinishMatch("TeamA", "TeamB"),
+                            new ScoreEvent.FinishMatch("TeamC", "TeamD")));
+                }
+                finishedWriters.incrementAndGet();
+                return null;
+            }
+            while (finishedWriters.get() == 0) {
+                SummarySnapshot snapshot = scoreBoard.getSnapshot();
+                assertEquals(0, snapshot.getVersion() % 2);
+                assertEquals(snapshot.getVersion() % 4 == 0 ? 0 : 2, snapshot.getMatches().size());
+            }
+            return null;
+        });
+        assertEquals(4L * batches, scoreBoard.getVersion());
+    }
+
+    @Test
+    void givenNoOptimisticAttempts_whenGettingSummaryDelta_thenFullSummaryIsReturned() {
+        ScoreBoard board = new ConcurrentScoreBoard(4, Runnable::run, 0);
+        board.startNewMatch("TeamA", "TeamB");
+        long since = board.getVersion();
+        board.updateScore("TeamA", "TeamB", 1, 2);
+
+        SummaryDelta delta = board.getSummaryDelta(since);
+
+        assertTrue(delta.full());
+        assertEquals(board.getVersion(), delta.version());
+        assertEquals(3, delta.matches().getFirst().getTotalScore());
+    }
+
+    @Test
+    void givenWritersAndDeltaReader_whenRacing_thenClientCopyConvergesToSummary() throws Exception {
+        int writers = THREADS / 2;
+        for (int i = 0; i < writers; i++) {
+            scoreBoard.startNewMatch("Home" + i, "Away" + i);
+        }
+        AtomicInteger finishedWriters = new AtomicInteger();
+        Map<String, Match> client = new ConcurrentHashMap<>();
+        runConcurrently(thread -> () -> {
+            if (thread < writers) {
+                for (int goals = 1; goals <= 2_000; goals++) {
+                    scoreBoard.updateScore("Home" + thread, "Away" + thread, goals, goals);
+                }
+                finishedWriters.incrementAndGet();
+                return null;
+            }
+            if (thread == writers) {
+                long version = 0;
+                boolean done = false;
+                while (!done) {
+                    done = finishedWriters.get() == writers;
+                    SummaryDelta delta = scoreBoard.getSummaryDelta(version);
+                    if (delta.full()) {
+                        client.clear();
+                    }
+                    for (Match match : delta.matches()) {
+                        assertEquals(match.getHomeTeamPoints(), match.getAwayTeamPoints());
+                        client.put(match.getHomeTeam(), match);
+                    }
+                    version = delta.version();
+                }
+            }
+            return null;
+        });
+        assertEquals(writers, client.size());
+        for (Match match : scoreBoard.getSummary()) {
+            assertEquals(match.getHomeTeamPoints(), client.get(match.getHomeTeam()).getHomeTeamPoints());
+        }
+    }
+
+    @Test
+    void givenWritersAndReaders_whenRacing_thenEverySnapshotIsConsistent() throws Exception {
+        int writers = THREADS / 2;
+        for (int i = 0; i < writers; i++) {
+            scoreBoard.startNewMatch("Home" + i, "Away" + i);
+        }
+        AtomicInteger finishedWriters = new AtomicInteger();
+        runConcurrently(thread -> () -> {
+            if (thread < writers) {
+                for (int goals = 1; goals <= 2_000; goals++) {
+                    scoreBoard.updateScore("Home" + thread, "Away" + thread, goals, goals);
+                }
+                finishedWriters.incrementAndGet();
+                return null;
+            }
+            long lastVersion = -1;
+            while (finishedWriters.get() < writers) {
+                SummarySnapshot snapshot = scoreBoard.getSnapshot();
+                assertTrue(snapshot.getVersion() >= lastVersion);
+                lastVersion = snapshot.getVersion();
+                assertEquals(writers, snapshot.getMatches().size());
+                int previousTotal = Integer.MAX_VALUE;
+                for (Match match : snapshot.getMatches()) {
+                    assertEquals(match.getHomeTeamPoints(), match.getAwayTeamPoints());
+                    assertTrue(match.getTotalScore() <= previousTotal);
+                    previousTotal = match.getTotalScore();
+                }
+            }
+            return null;
+        });
+        assertEquals(writers * 2_000L, scoreBoard.getVersion() - writers);
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<Void> body = task.forThread(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return body.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertNoTeamPlaysTwice(List<Match> summary) {
+        Set<String> teams = new HashSet<>();
+        for (Match match : summary) {
+            assertTrue(teams.add(match.getHomeTeam()), match.getHomeTeam() + " plays twice");
+            assertTrue(teams.add(match.getAwayTeam()), match.getAwayTeam() + " plays twice");
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        Callable<Void> forThread(int thread);
+    }
+}
@@ -43,6 +43,20 @@ class MatchTest {
         assertMatchScore(match, home, away);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0",
+            "0, 2147483647",
+            "2147483647, 0",
+            "65536, 1"
+    })
+    void givenScores_whenPacking_thenBothScoresAreKept(int home, int away) {
+        long score = Match.pack(home, away);
+
+        assertEquals(home, Match.homeOf(score));
+        assertEquals(away, Match.awayOf(score));
+    }
+
     @Test
     void givenMultipleScoreUpdates_whenCalculatingTotal_thenResultIsConsistent() {
         match.updateScore(1, 1);
@@ -114,6 +128,33 @@ class MatchTest {
         assertEquals(1, original.getAwayTeamPoints());
     }
 
+    @Test
+    void givenMatchesStartedInOrder_whenComparingSequence_thenLaterMatchHasHigherSequence() {
+        Match later = new Match(HOME_TEAM, AWAY_TEAM);
+
+        assertTrue(later.getSequence() > match.getSequence());
+        assertEquals(match.getSequence(), new Match(match).getSequence());
+    }
+
+    @Test
+    void givenMatchesWithDifferentTotals_whenSortingBySummaryOrder_thenHigherTotalComesFirst() {
+        Match later = new Match(HOME_TEAM, AWAY_TEAM);
+        match.updateScore(1, 1);
+        later.updateScore(0, 1);
+
+        assertTrue(Match.SUMMARY_ORDER.compare(match, later) < 0);
+    }
+
+    @Test
+    void givenMatchesWithSameTotal_whenSortingBySummaryOrder_thenMostRecentComesFirst() {
+        Match later = new Match(HOME_TEAM, AWAY_TEAM);
+        match.updateScore(2, 0);
+        later.updateScore(1, 1);
+
+        assertTrue(Match.SUMMARY_ORDER.compare(later, match) < 0);
+        assertEquals(0, Match.SUMMARY_ORDER.compare(match, new Match(match)));
+    }
+
     static Stream<Arguments> validScoreCases() {
         return Stream.of(
                 Arguments.of(3, 2),
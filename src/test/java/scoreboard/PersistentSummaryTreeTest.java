@@ -0,0 +1,143 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentSummaryTreeTest {
+
+    @Test
+    void givenEmptyTree_whenReading_thenVersionIsZeroAndNothingIsListed() {
+        PersistentSummaryTree tree = PersistentSummaryTree.EMPTY;
+
+        assertEquals(0, tree.version());
+        assertEquals(0, tree.size());
+        assertTrue(tree.snapshot().getMatches().isEmpty());
+        assertTrue(tree.page(0, 10).isEmpty());
+    }
+
+    @Test
+    void givenMatches_whenAdded_thenListedByTotalThenMostRecent() {
+        Match first = match(1, 0);
+        Match second = match(2, 1);
+        Match third = match(1, 0);
+        Match fourth = match(0, 0);
+
+        PersistentSummaryTree tree = PersistentSummaryTree.EMPTY.with(first).with(second).with(third).with(fourth);
+
+        assertEquals(4, tree.version());
+        assertEquals(List.of(second, third, first, fourth), tree.snapshot().getMatches());
+        assertEquals(4, tree.snapshot().getVersion());
+        assertSame(third, tree.snapshot().getMatches().get(1));
+        assertEquals(2, tree.rank(SummaryKey.of(first)));
+    }
+
+    @Test
+    void givenTree_whenPaging_thenBoundsAreClamped() {
+        Match first = match(1, 0);
+        Match second = match(0, 0);
+        PersistentSummaryTree tree = PersistentSummaryTree.EMPTY.with(first).with(second);
+
+        assertEquals(List.of(second), tree.page(1, 5));
+        assertEquals(List.of(first), tree.page(0, 1));
+        assertEquals(List.of(first, second), tree.page(0, Integer.MAX_VALUE));
+        assertTrue(tree.page(3, 1).isEmpty());
+        assertTrue(tree.page(0, 0).isEmpty());
+    }
+
+    @Test
+    void givenPublishedVersion_whenChangingTree_thenOldVersionIsUnchanged() {
+        Match match = match(0, 0);
+        Match other = match(0, 0);
+        PersistentSummaryTree before = PersistentSummaryTree.EMPTY.with(match).with(other);
+        Match rescored = rescore(match, 3, 0);
+
+        PersistentSummaryTree after = before.replace(SummaryKey.of(match), rescored).without(SummaryKey.of(other));
+
+        assertEquals(List.of(rescored), after.snapshot().getMatches());
+        assertEquals(4, after.version());
+        assertEquals(2, before.size());
+        assertEquals(1, before.rank(SummaryKey.of(match)));
+    }
+
+    @Test
+    void givenRandomChanges_whenComparedWithTreeSet_thenOrderPagesAndRanksMatch() {
+        Random random = new Random(42);
+        Match[] matches = new Match[500];
+        TreeSet<Match> expected = new TreeSet<>(Match.SUMMARY_ORDER);
+        PersistentSummaryTree tree = PersistentSummaryTree.EMPTY;
+
+        for (int step = 0; step < 5_000; step++) {
+            int slot = random.nextInt(matches.length);
+            Match match = matches[slot];
+            if (match == null) {
+                matches[slot] = match(random.nextInt(10), 0);
+                tree = tree.with(matches[slot]);
+                expected.add(matches[slot]);
+            } else if (random.nextBoolean()) {
+                matches[slot] = rescore(match, random.nextInt(10), 0);
+                tree = tree.replace(SummaryKey.of(match), matches[slot]);
+                expected.remove(match);
+                expected.add(matches[slot]);
+            } else {
+                matches[slot] = null;
+                tree = tree.without(SummaryKey.of(match));
+                expected.remove(match);
+            }
+        }
+
+        List<Match> order = new ArrayList<>(expected);
+        List<Match> listed = tree.snapshot().getMatches();
+        assertEquals(order, listed);
+        assertEquals(order.subList(10, 30), tree.page(10, 20));
+        for (int rank = 0; rank < order.size(); rank++) {
+            assertSame(order.get(rank), listed.get(rank));
+            assertEquals(rank, tree.rank(SummaryKey.of(order.get(rank))));
+        }
+        assertEquals(5_000, tree.version());
+    }
+
+    @Test
+    void givenLargeTree_whenIterating_thenMatchesComeInSummaryOrder() {
+        PersistentSummaryTree tree = PersistentSummaryTree.EMPTY;
+        List<Match> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Match match = match(i % 7, 0);
+            tree = tree.with(match);
+            expected.add(match);
+        }
+        expected.sort(Match.SUMMARY_ORDER);
+
+        Iterator<Match> iterator = tree.snapshot().getMatches().iterator();
+        List<Match> iterated = new ArrayList<>();
+        iterator.forEachRemaining(iterated::add);
+
+        assertEquals(expected, iterated);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void givenPositionOutsideTree_whenGettingMatch_thenThrowsException() {
+        List<Match> matches = PersistentSummaryTree.EMPTY.with(match(0, 0)).snapshot().getMatches();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> matches.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> matches.remove(0));
+    }
+
+    private static Match match(int homeScore, int awayScore) {
+        return rescore(new Match("Home", "Away"), homeScore, awayScore);
+    }
+
+    private static Match rescore(Match match, int homeScore, int awayScore) {
+        Match rescored = new Match(match);
+        rescored.updateScore(homeScore, awayScore);
+        return rescored;
+    }
+}
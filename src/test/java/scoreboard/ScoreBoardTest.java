@@ -1,29 +1,50 @@
 package scoreboard;
 
+import fixtures.RecordingSubscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import scoreboard.event.MatchEvent;
 
 import static scoreboard.Constants.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-class ScoreBoardTest {
+public abstract class ScoreBoardTest {
 
-    private ScoreBoard scoreBoard;
+    protected ScoreBoard scoreBoard;
 
     private static final String HOME_TEAM = "TeamA";
     private static final String AWAY_TEAM = "TeamB";
     private static final String OTHER_TEAM = "TeamC";
 
+    protected abstract ScoreBoard createScoreBoard();
+
+    protected abstract ScoreBoard createScoreBoard(Executor eventExecutor);
+
     @BeforeEach
     void setUp() {
-        scoreBoard = new ScoreBoard();
+        scoreBoard = createScoreBoard();
     }
 
     @Test
@@ -58,7 +79,7 @@ class ScoreBoardTest {
     @ParameterizedTest
     @MethodSource("fixtures.DataProviders#invalidTeamNames")
     void givenInvalidTeamNames_whenStartingNewGame_thenExceptionIsThrown(String home, String away) {
-        ScoreBoard scoreBoard = new ScoreBoard();
+        ScoreBoard scoreBoard = createScoreBoard();
         assertThrows(IllegalArgumentException.class, () ->
                 scoreBoard.startNewMatch(home, away)
         );
@@ -200,6 +221,721 @@ class ScoreBoardTest {
         assertTrue(scoreBoard.getSummary().isEmpty());
     }
 
+    @Test
+    void givenRepeatedScoreChanges_whenGettingSummary_thenOrderFollowsLatestScores() {
+        createGameWithScore("Team1", "Team2", 3, 0);
+        createGameWithScore("Team3", "Team4", 1, 0);
+        createGameWithScore("Team5", "Team6", 2, 0);
+
+        scoreBoard.updateScore("Team3", "Team4", 4, 0);
+        scoreBoard.updateScore("Team1", "Team2", 0, 0);
+
+        List<Match> summary = scoreBoard.getSummary();
+        assertMatchState(summary.get(0), "Team3", "Team4", 4, 0);
+        assertMatchState(summary.get(1), "Team5", "Team6", 2, 0);
+        assertMatchState(summary.get(2), "Team1", "Team2", 0, 0);
+    }
+
+    @Test
+    void givenFinishedGameInTheMiddle_whenGettingSummary_thenRemainingOrderIsKept() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+        createGameWithScore("Team3", "Team4", 1, 1);
+        createGameWithScore("Team5", "Team6", 1, 0);
+
+        scoreBoard.finishMatch("Team1", "Team2");
+
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(2, summary.size());
+        assertMatchState(summary.get(0), "Team3", "Team4", 1, 1);
+        assertMatchState(summary.get(1), "Team5", "Team6", 1, 0);
+    }
+
+    @Test
+    void givenManyOngoingGames_whenGettingTopMatches_thenOnlyLeadingMatchesAreReturned() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+        createGameWithScore("Team3", "Team4", 3, 0);
+        createGameWithScore("Team5", "Team6", 2, 0);
+
+        List<Match> top = scoreBoard.getTopMatches(2);
+
+        assertEquals(2, top.size());
+        assertMatchState(top.get(0), "Team3", "Team4", 3, 0);
+        assertMatchState(top.get(1), "Team5", "Team6", 2, 0);
+        assertEquals(3, scoreBoard.getTopMatches(10).size());
+        assertTrue(scoreBoard.getTopMatches(0).isEmpty());
+    }
+
+    @Test
+    void givenManyOngoingGames_whenGettingSummaryPages_thenPagesFollowSummaryOrder() {
+        for (int i = 0; i < 5; i++) {
+            createGameWithScore("Home" + i, "Away" + i, i, 0);
+        }
+
+        assertEquals(scoreBoard.getSummary().subList(2, 4).stream().map(Match::getHomeTeam).toList(),
+                scoreBoard.getSummaryPage(2, 2).stream().map(Match::getHomeTeam).toList());
+        assertMatchState(scoreBoard.getSummaryPage(4, 2).getFirst(), "Home0", "Away0", 0, 0);
+        assertEquals(1, scoreBoard.getSummaryPage(4, 2).size());
+        assertTrue(scoreBoard.getSummaryPage(5, 2).isEmpty());
+    }
+
+    @Test
+    void givenNegativeArguments_whenGettingSummaryPage_thenThrowsException() {
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.getSummaryPage(-1, 1), ERR_NEGATIVE_OFFSET);
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.getSummaryPage(0, -1), ERR_NEGATIVE_LIMIT);
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.getTopMatches(-1), ERR_NEGATIVE_LIMIT);
+    }
+
+    @Test
+    void givenTeamNamesWithHyphen_whenPlayingMatch_thenMatchIsTracked() {
+        createGameWithScore("Guinea-Bissau", "Timor-Leste", 1, 0);
+        scoreBoard.startNewMatch("Guinea", "Bissau-Timor");
+
+        assertMatchState(scoreBoard.getSummary().getFirst(), "Guinea-Bissau", "Timor-Leste", 1, 0);
+        scoreBoard.finishMatch("Guinea-Bissau", "Timor-Leste");
+        assertMatchState(scoreBoard.getSummary().getFirst(), "Guinea", "Bissau-Timor", 0, 0);
+    }
+
+    @Test
+    void givenReversedTeams_whenUpdatingOrFinishingGame_thenThrowsException() {
+        scoreBoard.startNewMatch(HOME_TEAM, AWAY_TEAM);
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.updateScore(AWAY_TEAM, HOME_TEAM, 1, 0), String.format(ERR_GAME_NOT_FOUND, AWAY_TEAM, HOME_TEAM));
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.finishMatch(AWAY_TEAM, HOME_TEAM), String.format(ERR_GAME_NOT_FOUND, AWAY_TEAM, HOME_TEAM));
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.updateScore(HOME_TEAM, OTHER_TEAM, 1, 0), String.format(ERR_GAME_NOT_FOUND, HOME_TEAM, OTHER_TEAM));
+        assertEquals(1, scoreBoard.getSummary().size());
+    }
+
+    @Test
+    void givenUpdateKeepingTotalScore_whenGettingSummary_thenScoreChangesAndOrderIsKept() {
+        createGameWithScore("Team1", "Team2", 2, 0);
+        createGameWithScore("Team3", "Team4", 1, 0);
+
+        scoreBoard.updateScore("Team1", "Team2", 1, 1);
+
+        List<Match> summary = scoreBoard.getSummary();
+        assertMatchState(summary.get(0), "Team1", "Team2", 1, 1);
+        assertMatchState(summary.get(1), "Team3", "Team4", 1, 0);
+    }
+
+    @Test
+    void givenOngoingGame_whenIncrementingGoals_thenScoreAndOrderFollow() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+        createGameWithScore("Team3", "Team4", 0, 0);
+        long version = scoreBoard.getVersion();
+
+        scoreBoard.incrementHomeGoal("Team3", "Team4");
+        scoreBoard.incrementAwayGoal("Team3", "Team4");
+
+        List<Match> summary = scoreBoard.getSummary();
+        assertMatchState(summary.get(0), "Team3", "Team4", 1, 1);
+        assertMatchState(summary.get(1), "Team1", "Team2", 1, 0);
+        assertEquals(version + 2, scoreBoard.getVersion());
+    }
+
+    @Test
+    void givenNonExistingGame_whenIncrementingGoals_thenThrowsException() {
+        scoreBoard.startNewMatch(HOME_TEAM, AWAY_TEAM);
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.incrementHomeGoal(AWAY_TEAM, HOME_TEAM), String.format(ERR_GAME_NOT_FOUND, AWAY_TEAM, HOME_TEAM));
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.incrementAwayGoal(HOME_TEAM, OTHER_TEAM), String.format(ERR_GAME_NOT_FOUND, HOME_TEAM, OTHER_TEAM));
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.incrementHomeGoal(HOME_TEAM, HOME_TEAM), ERR_SAME_TEAMS);
+        assertMatchState(scoreBoard.getSummary().getFirst(), HOME_TEAM, AWAY_TEAM, 0, 0);
+    }
+
+    @Test
+    void givenExpectedScore_whenComparingAndSettingScore_thenScoreIsSet() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 0, 0);
+
+        assertTrue(scoreBoard.compareAndSetScore(HOME_TEAM, AWAY_TEAM, 0, 0, 2, 1));
+
+        List<Match> summary = scoreBoard.getSummary();
+        assertMatchState(summary.get(0), HOME_TEAM, AWAY_TEAM, 2, 1);
+        assertMatchState(summary.get(1), "Team1", "Team2", 1, 0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 0",
+            "0, 1",
+            "-1, 0"
+    })
+    void givenStaleExpectedScore_whenComparingAndSettingScore_thenBoardIsUnchanged(int expectedHome, int expectedAway) {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 0, 0);
+        long version = scoreBoard.getVersion();
+
+        assertFalse(scoreBoard.compareAndSetScore(HOME_TEAM, AWAY_TEAM, expectedHome, expectedAway, 3, 3));
+
+        assertMatchState(scoreBoard.getSummary().getFirst(), HOME_TEAM, AWAY_TEAM, 0, 0);
+        assertEquals(version, scoreBoard.getVersion());
+    }
+
+    @Test
+    void givenInvalidArguments_whenComparingAndSettingScore_thenThrowsException() {
+        scoreBoard.startNewMatch(HOME_TEAM, AWAY_TEAM);
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.compareAndSetScore(HOME_TEAM, AWAY_TEAM, 0, 0, -1, 0), ERR_NEGATIVE_SCORE);
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.compareAndSetScore(HOME_TEAM, OTHER_TEAM, 0, 0, 1, 0), String.format(ERR_GAME_NOT_FOUND, HOME_TEAM, OTHER_TEAM));
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.compareAndSetScore(null, AWAY_TEAM, 0, 0, 1, 0), ERR_INVALID_NAMES);
+        assertMatchState(scoreBoard.getSummary().getFirst(), HOME_TEAM, AWAY_TEAM, 0, 0);
+    }
+
+    @Test
+    void givenSubscriber_whenIncrementingGoal_thenScoreChangeIsPublished() {
+        scoreBoard = createScoreBoard(Runnable::run);
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 2);
+        RecordingSubscriber<MatchEvent> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        scoreBoard.changes().subscribe(subscriber);
+
+        scoreBoard.incrementAwayGoal(HOME_TEAM, AWAY_TEAM);
+        scoreBoard.compareAndSetScore(HOME_TEAM, AWAY_TEAM, 0, 0, 5, 5);
+
+        List<MatchEvent> events = subscriber.getItems();
+        assertEquals(1, events.size());
+        MatchEvent.ScoreChanged changed = assertInstanceOf(MatchEvent.ScoreChanged.class, events.getFirst());
+        assertMatchState(changed.match(), HOME_TEAM, AWAY_TEAM, 1, 3);
+        assertEquals(1, changed.previousHomeScore());
+        assertEquals(2, changed.previousAwayScore());
+    }
+
+    @Test
+    void givenOngoingGame_whenFindingMatchByEitherTeam_thenMatchIsReturned() {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 2);
+        assertMatchState(scoreBoard.findMatchByTeam(HOME_TEAM).orElseThrow(), HOME_TEAM, AWAY_TEAM, 1, 2);
+        assertMatchState(scoreBoard.findMatchByTeam(AWAY_TEAM).orElseThrow(), HOME_TEAM, AWAY_TEAM, 1, 2);
+        assertTrue(scoreBoard.findMatchByTeam(OTHER_TEAM).isEmpty());
+    }
+
+    @Test
+    void givenFinishedGame_whenFindingMatchByTeam_thenTeamsAreFreeAgain() {
+        scoreBoard.startNewMatch(HOME_TEAM, AWAY_TEAM);
+        scoreBoard.finishMatch(HOME_TEAM, AWAY_TEAM);
+        assertTrue(scoreBoard.findMatchByTeam(HOME_TEAM).isEmpty());
+        assertTrue(scoreBoard.findMatchByTeam(AWAY_TEAM).isEmpty());
+
+        scoreBoard.startNewMatch(AWAY_TEAM, OTHER_TEAM);
+        assertMatchState(scoreBoard.findMatchByTeam(AWAY_TEAM).orElseThrow(), AWAY_TEAM, OTHER_TEAM, 0, 0);
+    }
+
+    @Test
+    void givenFoundMatch_whenModifyingIt_thenBoardIsUnchanged() {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 2);
+        scoreBoard.findMatchByTeam(HOME_TEAM).orElseThrow().updateScore(7, 7);
+        assertMatchState(scoreBoard.findMatchByTeam(HOME_TEAM).orElseThrow(), HOME_TEAM, AWAY_TEAM, 1, 2);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", " "})
+    void givenInvalidTeamName_whenFindingMatchByTeam_thenThrowsException(String team) {
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> scoreBoard.findMatchByTeam(team), ERR_INVALID_NAMES);
+    }
+
+    @Test
+    void givenRandomOperations_whenComparedWithReferenceModel_thenSummaryMatches() {
+        Random random = new Random(7);
+        List<String[]> expected = new ArrayList<>();
+        Set<String> playing = new HashSet<>();
+
+        for (int step = 0; step < 3_000; step++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                String home = "Team" + random.nextInt(60);
+                String away = "Team" + random.nextInt(60);
+                if (home.equals(away) || playing.contains(home) || playing.contains(away)) {
+                    continue;
+                }
+                scoreBoard.startNewMatch(home, away);
+                expected.add(new String[]{home, away, "0", "0"});
+                playing.add(home);
+                playing.add(away);
+            } else if (operation == 1) {
+                String[] match = expected.get(random.nextInt(expected.size()));
+                int homeScore = random.nextInt(6);
+                int awayScore = random.nextInt(6);
+                scoreBoard.updateScore(match[0], match[1], homeScore, awayScore);
+                match[2] = String.valueOf(homeScore);
+                match[3] = String.valueOf(awayScore);
+            } else {
+                String[] match = expected.remove(random.nextInt(expected.size()));
+                scoreBoard.finishMatch(match[0], match[1]);
+                playing.remove(match[0]);
+                playing.remove(match[1]);
+            }
+        }
+
+        List<String[]> order = new ArrayList<>(expected);
+        Collections.reverse(order);
+        order.sort(Comparator.comparingInt((String[] m) -> Integer.parseInt(m[2]) + Integer.parseInt(m[3])).reversed());
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(order.size(), summary.size());
+        for (int i = 0; i < order.size(); i++) {
+            String[] match = order.get(i);
+            assertMatchState(summary.get(i), match[0], match[1], Integer.parseInt(match[2]), Integer.parseInt(match[3]));
+        }
+    }
+
+    @Test
+    void givenMixedEvents_whenApplyingBatch_thenAllAreAppliedInOrder() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+
+        BatchResult result = scoreBoard.applyBatch(List.of(
+                new ScoreEvent.StartMatch("Team3", "Team4"),
+                new ScoreEvent.UpdateScore("Team3", "Team4", 1, 0),
+                new ScoreEvent.UpdateScore("Team3", "Team4", 2, 1),
+                new ScoreEvent.UpdateScore("Team1", "Team2", 1, 1),
+                new ScoreEvent.StartMatch("Team5", "Team6"),
+                new ScoreEvent.FinishMatch("Team5", "Team6"),
+                new ScoreEvent.StartMatch("Team5", "Team7"),
+                new ScoreEvent.UpdateScore("Team5", "Team7", 2, 0)));
+
+        assertTrue(result.isSuccessful());
+        assertEquals(8, result.appliedCount());
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(3, summary.size());
+        assertMatchState(summary.get(0), "Team3", "Team4", 2, 1);
+        assertMatchState(summary.get(1), "Team5", "Team7", 2, 0);
+        assertMatchState(summary.get(2), "Team1", "Team2", 1, 1);
+    }
+
+    @Test
+    void givenInvalidEvents_whenApplyingBatch_thenFailuresAreReportedAndOthersApplied() {
+        List<ScoreEvent> events = new ArrayList<>(List.of(
+                new ScoreEvent.StartMatch(HOME_TEAM, AWAY_TEAM),
+                new ScoreEvent.StartMatch(HOME_TEAM, OTHER_TEAM),
+                new ScoreEvent.UpdateScore(HOME_TEAM, AWAY_TEAM, -1, 0),
+                new ScoreEvent.UpdateScore(OTHER_TEAM, AWAY_TEAM, 1, 0),
+                new ScoreEvent.FinishMatch("", AWAY_TEAM),
+                new ScoreEvent.UpdateScore(HOME_TEAM, AWAY_TEAM, 3, 0)));
+        events.add(3, null);
+
+        BatchResult result = scoreBoard.applyBatch(events);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(2, result.appliedCount());
+        assertEquals(List.of(1, 2, 3, 4, 5), result.failures().stream().map(BatchFailure::index).toList());
+        assertEquals(ERR_TEAMS_PLAYING, result.failures().get(0).error().getMessage());
+        assertEquals(ERR_NEGATIVE_SCORE, result.failures().get(1).error().getMessage());
+        assertEquals(ERR_NULL_EVENT, result.failures().get(2).error().getMessage());
+        assertEquals(String.format(ERR_GAME_NOT_FOUND, OTHER_TEAM, AWAY_TEAM), result.failures().get(3).error().getMessage());
+        assertEquals(ERR_INVALID_NAMES, result.failures().get(4).error().getMessage());
+        assertSame(events.get(1), result.failures().get(0).event());
+        assertMatchState(scoreBoard.getSummary().getFirst(), HOME_TEAM, AWAY_TEAM, 3, 0);
+    }
+
+    @Test
+    void givenUpdatedThenFinishedMatchInBatch_whenGettingSummary_thenMatchIsGone() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+        createGameWithScore("Team3", "Team4", 2, 0);
+
+        BatchResult result = scoreBoard.applyBatch(List.of(
+                new ScoreEvent.UpdateScore("Team1", "Team2", 5, 0),
+                new ScoreEvent.UpdateScore("Team1", "Team2", 5, 1),
+                new ScoreEvent.FinishMatch("Team1", "Team2"),
+                new ScoreEvent.UpdateScore("Team3", "Team4", 2, 0)));
+
+        assertEquals(4, result.appliedCount());
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(1, summary.size());
+        assertMatchState(summary.getFirst(), "Team3", "Team4", 2, 0);
+        assertTrue(scoreBoard.findMatchByTeam("Team1").isEmpty());
+    }
+
+    @Test
+    void givenEmptyBatch_whenApplying_thenNothingChanges() {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        BatchResult result = scoreBoard.applyBatch(List.of());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(0, result.appliedCount());
+        assertEquals(1, scoreBoard.getSummary().size());
+    }
+
+    @Test
+    void givenChanges_whenReadingVersion_thenEverySuccessfulChangeBumpsIt() {
+        long initial = scoreBoard.getVersion();
+
+        scoreBoard.startNewMatch(HOME_TEAM, AWAY_TEAM);
+        scoreBoard.updateScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        scoreBoard.updateScore(HOME_TEAM, AWAY_TEAM, 0, 1);
+        assertThrows(IllegalStateException.class, () -> scoreBoard.startNewMatch(HOME_TEAM, OTHER_TEAM));
+        scoreBoard.finishMatch(HOME_TEAM, AWAY_TEAM);
+
+        assertEquals(initial + 4, scoreBoard.getVersion());
+    }
+
+    @Test
+    void givenNoChanges_whenReadingSnapshotTwice_thenSameSnapshotIsReturned() {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        SummarySnapshot first = scoreBoard.getSnapshot();
+        SummarySnapshot second = scoreBoard.getSnapshot();
+
+        assertSame(first, second);
+        assertSame(first.getMatches(), scoreBoard.getSummary());
+        assertEquals(scoreBoard.getVersion(), first.getVersion());
+    }
+
+    @Test
+    void givenSnapshot_whenBoardChanges_thenSnapshotKeepsOldStateAndNewSnapshotHasNewVersion() {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        SummarySnapshot before = scoreBoard.getSnapshot();
+
+        scoreBoard.updateScore(HOME_TEAM, AWAY_TEAM, 2, 0);
+        SummarySnapshot after = scoreBoard.getSnapshot();
+
+        assertMatchState(before.getMatches().getFirst(), HOME_TEAM, AWAY_TEAM, 1, 0);
+        assertMatchState(after.getMatches().getFirst(), HOME_TEAM, AWAY_TEAM, 2, 0);
+        assertTrue(after.getVersion() > before.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> after.getMatches().clear());
+    }
+
+    @Test
+    void givenSubscriber_whenBoardChanges_thenEventsCarryPositions() {
+        scoreBoard = createScoreBoard(Runnable::run);
+        createGameWithScore("Team1", "Team2", 2, 0);
+        RecordingSubscriber<MatchEvent> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        scoreBoard.changes().subscribe(subscriber);
+
+        scoreBoard.startNewMatch("Team3", "Team4");
+        scoreBoard.updateScore("Team3", "Team4", 2, 1);
+        scoreBoard.updateScore("Team3", "Team4", 1, 2);
+        scoreBoard.finishMatch("Team1", "Team2");
+
+        List<MatchEvent> events = subscriber.getItems();
+        assertEquals(4, events.size());
+        MatchEvent.MatchStarted started = assertInstanceOf(MatchEvent.MatchStarted.class, events.get(0));
+        assertMatchState(started.match(), "Team3", "Team4", 0, 0);
+        assertEquals(1, started.position());
+        MatchEvent.ScoreChanged moved = assertInstanceOf(MatchEvent.ScoreChanged.class, events.get(1));
+        assertMatchState(moved.match(), "Team3", "Team4", 2, 1);
+        assertEquals(0, moved.previousHomeScore());
+        assertEquals(0, moved.previousAwayScore());
+        assertEquals(1, moved.previousPosition());
+        assertEquals(0, moved.position());
+        MatchEvent.ScoreChanged sameTotal = assertInstanceOf(MatchEvent.ScoreChanged.class, events.get(2));
+        assertEquals(2, sameTotal.previousHomeScore());
+        assertEquals(0, sameTotal.position());
+        MatchEvent.MatchFinished finished = assertInstanceOf(MatchEvent.MatchFinished.class, events.get(3));
+        assertMatchState(finished.match(), "Team1", "Team2", 2, 0);
+        assertEquals(1, finished.previousPosition());
+    }
+
+    @Test
+    void givenSubscriber_whenApplyingBatch_thenEveryAppliedEventIsPublished() {
+        scoreBoard = createScoreBoard(Runnable::run);
+        RecordingSubscriber<MatchEvent> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        scoreBoard.changes().subscribe(subscriber);
+
+        scoreBoard.applyBatch(List.of(
+                new ScoreEvent.StartMatch("Team1", "Team2"),
+                new ScoreEvent.StartMatch("Team3", "Team4"),
+                new ScoreEvent.UpdateScore("Team1", "Team2", 1, 0),
+                new ScoreEvent.FinishMatch("Team5", "Team6"),
+                new ScoreEvent.FinishMatch("Team3", "Team4")));
+
+        List<MatchEvent> events = subscriber.getItems();
+        assertEquals(4, events.size());
+        assertEquals(1, ((MatchEvent.ScoreChanged) events.get(2)).previousPosition());
+        assertEquals(0, ((MatchEvent.ScoreChanged) events.get(2)).position());
+        assertEquals(1, ((MatchEvent.MatchFinished) events.get(3)).previousPosition());
+    }
+
+    @Test
+    void givenStartedAndFinishedMatches_whenCountingMatches_thenOnlyOngoingOnesAreCounted() {
+        assertEquals(0, scoreBoard.getMatchCount());
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        createGameWithScore("Spain", "Brazil", 10, 2);
+        assertThrows(IllegalStateException.class, () -> scoreBoard.startNewMatch("Mexico", "Brazil"));
+
+        scoreBoard.finishMatch("Mexico", "Canada");
+
+        assertEquals(1, scoreBoard.getMatchCount());
+    }
+
+    @Test
+    void givenFinishListener_whenFinishingMatches_thenOnlyFinalResultsAreReported() {
+        List<Match> finished = new ArrayList<>();
+        scoreBoard.addFinishListener(finished::add);
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        createGameWithScore("Spain", "Brazil", 10, 2);
+
+        scoreBoard.finishMatch("Mexico", "Canada");
+        scoreBoard.applyBatch(List.of(new ScoreEvent.FinishMatch("Spain", "Brazil")));
+
+        assertEquals(2, finished.size());
+        assertMatchState(finished.get(0), "Mexico", "Canada", 0, 5);
+        assertMatchState(finished.get(1), "Spain", "Brazil", 10, 2);
+    }
+
+    @Test
+    void givenMatches_whenRenderingSummary_thenOneLinePerMatchInSummaryOrder() throws IOException {
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        createGameWithScore("Spain", "Brazil", 10, 2);
+        StringBuilder out = new StringBuilder("Summary\n");
+
+        scoreBoard.renderSummary(out);
+
+        assertEquals("Summary\nSpain 10 - 2 Brazil\nMexico 0 - 5 Canada\n", out.toString());
+    }
+
+    @Test
+    void givenUnchangedBoard_whenRenderingSummary_thenCachedTextIsReused() {
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        String text = scoreBoard.renderSummary();
+
+        assertSame(text, scoreBoard.renderSummary());
+
+        scoreBoard.finishMatch("Mexico", "Canada");
+        assertEquals("", scoreBoard.renderSummary());
+    }
+
+    @Test
+    void givenUnchangedBoard_whenAskingForEncodedSummary_thenSameEncodingIsReturned() {
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        ByteBuffer binary = scoreBoard.getSummaryBinary();
+        ByteBuffer json = scoreBoard.getSummaryJson();
+
+        assertEquals(binary, scoreBoard.getSummaryBinary());
+        assertEquals(json, scoreBoard.getSummaryJson());
+        assertEquals(scoreBoard.getVersion(), binary.getLong(0));
+
+        scoreBoard.updateScore("Mexico", "Canada", 1, 5);
+        assertNotEquals(binary, scoreBoard.getSummaryBinary());
+        assertTrue(StandardCharsets.UTF_8.decode(scoreBoard.getSummaryJson()).toString().contains("\"homeScore\":1"));
+    }
+
+    @Test
+    void givenCheckpoint_whenRestoring_thenBoardHasTheSameMatchesInTheSameOrder() throws IOException {
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        createGameWithScore("Spain", "Brazil", 10, 2);
+        createGameWithScore("Germany", "France", 2, 2);
+        createGameWithScore("Uruguay", "Italy", 6, 6);
+        createGameWithScore("Argentina", "Australia", 3, 1);
+        List<Match> expected = scoreBoard.getSummary();
+
+        ScoreBoard restored = createScoreBoard();
+        restored.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint(scoreBoard))));
+
+        List<Match> summary = restored.getSummary();
+        assertEquals(expected.size(), summary.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Match match = expected.get(i);
+            assertMatchState(summary.get(i), match.getHomeTeam(), match.getAwayTeam(), match.getHomeTeamPoints(), match.getAwayTeamPoints());
+            assertEquals(match.getStartTime(), summary.get(i).getStartTime());
+        }
+        assertTrue(restored.getVersion() > 0);
+    }
+
+    @Test
+    void givenRestoredBoard_whenChangingMatches_thenItBehavesLikeTheOriginal() throws IOException {
+        createGameWithScore("Mexico", "Canada", 1, 0);
+        createGameWithScore("Spain", "Brazil", 1, 0);
+        ScoreBoard restored = createScoreBoard();
+        restored.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint(scoreBoard))));
+
+        assertThrowsWithMessage(IllegalStateException.class, () -> restored.startNewMatch("Mexico", "Germany"), ERR_TEAMS_PLAYING);
+        restored.updateScore("Mexico", "Canada", 1, 1);
+        restored.finishMatch("Spain", "Brazil");
+        restored.startNewMatch("Germany", "France");
+
+        List<Match> summary = restored.getSummary();
+        assertMatchState(summary.get(0), "Mexico", "Canada", 1, 1);
+        assertMatchState(summary.get(1), "Germany", "France", 0, 0);
+    }
+
+    @Test
+    void givenEmptyBoard_whenCheckpointing_thenRestoredBoardIsEmpty() throws IOException {
+        ScoreBoard restored = createScoreBoard();
+        restored.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint(scoreBoard))));
+
+        assertTrue(restored.getSummary().isEmpty());
+    }
+
+    @Test
+    void givenSubscriber_whenRestoring_thenEveryRestoredMatchIsPublished() throws IOException {
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        createGameWithScore("Spain", "Brazil", 10, 2);
+        ScoreBoard restored = createScoreBoard(Runnable::run);
+        RecordingSubscriber<MatchEvent> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        restored.changes().subscribe(subscriber);
+
+        restored.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint(scoreBoard))));
+
+        assertEquals(2, subscriber.getItems().size());
+        MatchEvent.MatchStarted started = assertInstanceOf(MatchEvent.MatchStarted.class, subscriber.getItems().get(1));
+        assertMatchState(started.match(), "Spain", "Brazil", 10, 2);
+        assertEquals(0, started.position());
+    }
+
+    @Test
+    void givenNonEmptyBoard_whenRestoring_thenThrowsException() throws IOException {
+        createGameWithScore("Mexico", "Canada", 1, 0);
+        byte[] checkpoint = checkpoint(scoreBoard);
+
+        assertThrowsWithMessage(IllegalStateException.class,
+                () -> scoreBoard.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint))), ERR_RESTORE_INTO_NON_EMPTY_BOARD);
+        assertEquals(1, scoreBoard.getSummary().size());
+    }
+
+    @Test
+    void givenNoChanges_whenGettingSummaryDelta_thenDeltaIsEmpty() {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+        long version = scoreBoard.getVersion();
+
+        SummaryDelta delta = scoreBoard.getSummaryDelta(version);
+
+        assertEquals(version, delta.version());
+        assertFalse(delta.full());
+        assertTrue(delta.matches().isEmpty());
+        assertTrue(delta.removed().isEmpty());
+    }
+
+    @Test
+    void givenChanges_whenGettingSummaryDelta_thenOnlyChangedMatchesAreReturned() {
+        createGameWithScore("Team1", "Team2", 1, 0);
+        createGameWithScore("Team3", "Team4", 2, 0);
+        createGameWithScore("Team5", "Team6", 0, 0);
+        long since = scoreBoard.getVersion();
+
+        scoreBoard.incrementHomeGoal("Team1", "Team2");
+        scoreBoard.updateScore("Team1", "Team2", 3, 0);
+        scoreBoard.startNewMatch("Team7", "Team8");
+        scoreBoard.finishMatch("Team3", "Team4");
+        scoreBoard.startNewMatch("Team9", "Team10");
+        scoreBoard.finishMatch("Team9", "Team10");
+
+        SummaryDelta delta = scoreBoard.getSummaryDelta(since);
+
+        assertEquals(scoreBoard.getVersion(), delta.version());
+        assertFalse(delta.full());
+        assertEquals(2, delta.matches().size());
+        assertMatchState(delta.matches().get(0), "Team1", "Team2", 3, 0);
+        assertMatchState(delta.matches().get(1), "Team7", "Team8", 0, 0);
+        assertEquals(1, delta.removed().size());
+        assertMatchState(delta.removed().getFirst(), "Team3", "Team4", 2, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 1_000})
+    void givenUnknownVersion_whenGettingSummaryDelta_thenFullSummaryIsReturned(long since) {
+        createGameWithScore(HOME_TEAM, AWAY_TEAM, 1, 0);
+
+        SummaryDelta delta = scoreBoard.getSummaryDelta(since);
+
+        assertTrue(delta.full());
+        assertEquals(scoreBoard.getVersion(), delta.version());
+        assertEquals(scoreBoard.getSummary(), delta.matches());
+        assertTrue(delta.removed().isEmpty());
+    }
+
+    @Test
+    void givenClientTooFarBehind_whenGettingSummaryDelta_thenFullSummaryIsReturned() {
+        scoreBoard.startNewMatch(HOME_TEAM, AWAY_TEAM);
+        scoreBoard.startNewMatch(OTHER_TEAM, "TeamD");
+        long since = scoreBoard.getVersion();
+        for (int goal = 1; goal <= ChangeLog.DEFAULT_CAPACITY; goal++) {
+            scoreBoard.updateScore(HOME_TEAM, AWAY_TEAM, goal, 0);
+        }
+        assertFalse(scoreBoard.getSummaryDelta(since).full());
+
+        scoreBoard.updateScore(HOME_TEAM, AWAY_TEAM, 0, 0);
+        SummaryDelta delta = scoreBoard.getSummaryDelta(since);
+
+        assertTrue(delta.full());
+        assertEquals(2, delta.matches().size());
+        assertMatchState(delta.matches().get(0), OTHER_TEAM, "TeamD", 0, 0);
+    }
+
+    @Test
+    void givenRestoredBoard_whenGettingSummaryDelta_thenRestoredMatchesAreReturned() throws IOException {
+        createGameWithScore("Mexico", "Canada", 0, 5);
+        createGameWithScore("Spain", "Brazil", 10, 2);
+        ScoreBoard restored = createScoreBoard();
+
+        restored.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint(scoreBoard))));
+
+        SummaryDelta delta = restored.getSummaryDelta(0);
+        assertFalse(delta.full());
+        assertEquals(restored.getVersion(), delta.version());
+        assertMatchState(delta.matches().get(0), "Spain", "Brazil", 10, 2);
+        assertMatchState(delta.matches().get(1), "Mexico", "Canada", 0, 5);
+    }
+
+    @Test
+    void givenRandomChanges_whenApplyingDeltas_thenClientCopyMatchesSummary() {
+        Random random = new Random(21);
+        List<Match> client = new ArrayList<>();
+        long version = 0;
+        for (int round = 0; round < 200; round++) {
+            int team = random.nextInt(12) * 2;
+            String home = "Team" + team;
+            String away = "Team" + (team + 1);
+            try {
+                switch (random.nextInt(4)) {
+                    case 0 -> scoreBoard.startNewMatch(home, away);
+                    case 1 -> scoreBoard.finishMatch(home, away);
+                    case 2 -> scoreBoard.incrementAwayGoal(home, away);
+                    default -> scoreBoard.updateScore(home, away, random.nextInt(5), random.nextInt(5));
+                }
+            } catch (IllegalArgumentException | IllegalStateException ignored) {
+                // the random schedule hit a match that is not in the required state
+            }
+            if (random.nextInt(3) == 0) {
+                SummaryDelta delta = scoreBoard.getSummaryDelta(version);
+                assertFalse(delta.full());
+                for (Match removed : delta.removed()) {
+                    client.removeIf(match -> match.getHomeTeam().equals(removed.getHomeTeam()));
+                }
+                for (Match changed : delta.matches()) {
+                    client.removeIf(match -> match.getHomeTeam().equals(changed.getHomeTeam()));
+                    client.add(changed);
+                }
+                client.sort(Match.SUMMARY_ORDER);
+                version = delta.version();
+                assertSameSummary(scoreBoard.getSnapshot().getMatches(), client);
+            }
+        }
+    }
+
+    @Test
+    void givenOngoingGames_whenWalkingSummaryCursor_thenMatchesComeInSummaryOrder() {
+        createGameWithScore("Team1", "Team2", 1, 1);
+        createGameWithScore("Team3", "Team4", 2, 2);
+        createGameWithScore("Team5", "Team6", 0, 0);
+        createGameWithScore("Team7", "Team8", 2, 0);
+        List<Match> summary = scoreBoard.getSummary();
+
+        SummaryCursor cursor = scoreBoard.summaryCursor();
+
+        for (Match match : summary) {
+            assertTrue(cursor.next());
+            assertEquals(match.getHomeTeam(), cursor.homeTeam());
+            assertEquals(match.getAwayTeam(), cursor.awayTeam());
+            assertEquals(match.getHomeTeamPoints(), cursor.homeScore());
+            assertEquals(match.getAwayTeamPoints(), cursor.awayScore());
+            assertEquals(match.getStartTime(), cursor.startTime());
+        }
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void givenEmptyBoard_whenWalkingSummaryCursor_thenNothingIsReturned() {
+        assertFalse(scoreBoard.summaryCursor().next());
+    }
+
+    private static byte[] checkpoint(ScoreBoard board) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        board.writeCheckpoint(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private void assertSameSummary(List<Match> expected, List<Match> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Match match = expected.get(i);
+            assertMatchState(actual.get(i), match.getHomeTeam(), match.getAwayTeam(), match.getHomeTeamPoints(), match.getAwayTeamPoints());
+        }
+    }
+
     private void createGameWithScore(String home, String away, int homeScore, int awayScore) {
         scoreBoard.startNewMatch(home, away);
         scoreBoard.updateScore(home, away, homeScore, awayScore);
@@ -0,0 +1,104 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_STALE_SUMMARY_CURSOR;
+
+class SimpleScoreBoardTest extends ScoreBoardTest {
+
+    @Override
+    protected ScoreBoard createScoreBoard() {
+        return new SimpleScoreBoard();
+    }
+
+    @Override
+    protected ScoreBoard createScoreBoard(Executor eventExecutor) {
+        return new SimpleScoreBoard(eventExecutor);
+    }
+
+    @Test
+    void givenCursor_whenRequestedAgain_thenSameCursorIsRestarted() {
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        SummaryCursor first = scoreBoard.summaryCursor();
+        assertTrue(first.next());
+        assertFalse(first.next());
+
+        SummaryCursor second = scoreBoard.summaryCursor();
+
+        assertSame(first, second);
+        assertTrue(second.next());
+        assertEquals("Mexico", second.homeTeam());
+    }
+
+    @Test
+    void givenMoreMatchesThanInitialSlots_whenStartingAndFinishing_thenSlotsGrowAndAreReused() {
+        int matches = 40;
+        for (int i = 0; i < matches; i++) {
+            scoreBoard.startNewMatch("Home" + i, "Away" + i);
+            scoreBoard.updateScore("Home" + i, "Away" + i, i, 0);
+        }
+        scoreBoard.finishMatch("Home0", "Away0");
+        scoreBoard.startNewMatch("Home0", "Away1000");
+
+        List<Match> summary = scoreBoard.getSummary();
+
+        assertEquals(matches, summary.size());
+        for (int i = 1; i < matches; i++) {
+            assertEquals("Home" + (matches - i), summary.get(i - 1).getHomeTeam());
+            assertEquals(matches - i, summary.get(i - 1).getHomeTeamPoints());
+        }
+        assertEquals("Away1000", summary.getLast().getAwayTeam());
+    }
+
+    @Test
+    void givenBatchTouchingMoreMatchesThanInitialSlots_whenApplying_thenEveryMatchIsIndexedOnce() {
+        int matches = 40;
+        List<ScoreEvent> events = new ArrayList<>();
+        for (int i = 0; i < matches; i++) {
+            events.add(new ScoreEvent.StartMatch("Home" + i, "Away" + i));
+            events.add(new ScoreEvent.UpdateScore("Home" + i, "Away" + i, i, 0));
+        }
+
+        BatchResult result = scoreBoard.applyBatch(events);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(2 * matches, result.appliedCount());
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(matches, summary.size());
+        for (int i = 0; i < matches; i++) {
+            assertEquals(matches - 1 - i, summary.get(i).getTotalScore());
+        }
+    }
+
+    @Test
+    void givenBoardChanged_whenAdvancingCursor_thenThrowsException() {
+        scoreBoard.startNewMatch("Mexico", "Canada");
+        SummaryCursor cursor = scoreBoard.summaryCursor();
+        scoreBoard.updateScore("Mexico", "Canada", 1, 0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, cursor::next);
+        assertEquals(ERR_STALE_SUMMARY_CURSOR, exception.getMessage());
+    }
+
+    @Test
+    void givenRejectedStarts_whenStartingWithNewTeams_thenNoTeamIsRegistered() {
+        SimpleScoreBoard board = new SimpleScoreBoard();
+        board.startNewMatch("Mexico", "Canada");
+
+        for (int i = 0; i < 100; i++) {
+            String rival = "Rival" + i;
+            assertThrows(IllegalStateException.class, () -> board.startNewMatch("Mexico", rival));
+            assertThrows(IllegalStateException.class, () -> board.startNewMatch(rival, "Canada"));
+        }
+
+        assertEquals(2, board.registeredTeamCount());
+        board.startNewMatch("Spain", "Brazil");
+        assertEquals(4, board.registeredTeamCount());
+        assertEquals(2, board.getMatchCount());
+    }
+}
@@ -0,0 +1,31 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryKeyTest {
+
+    @Test
+    void givenMatch_whenCreatingKey_thenTotalAndSequenceAreCaptured() {
+        Match match = new Match("TeamA", "TeamB");
+        match.updateScore(2, 3);
+
+        SummaryKey key = SummaryKey.of(match);
+
+        assertEquals(5, key.totalScore());
+        assertEquals(match.getSequence(), key.sequence());
+    }
+
+    @Test
+    void givenKeysWithDifferentTotals_whenComparing_thenHigherTotalComesFirst() {
+        assertTrue(new SummaryKey(5, 1).compareTo(new SummaryKey(4, 2)) < 0);
+        assertTrue(new SummaryKey(4, 2).compareTo(new SummaryKey(5, 1)) > 0);
+    }
+
+    @Test
+    void givenKeysWithSameTotal_whenComparing_thenHigherSequenceComesFirst() {
+        assertTrue(new SummaryKey(3, 2).compareTo(new SummaryKey(3, 1)) < 0);
+        assertEquals(0, new SummaryKey(3, 1).compareTo(new SummaryKey(3, 1)));
+    }
+}
@@ -0,0 +1,50 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryRendererTest {
+
+    private final SummaryRenderer renderer = new SummaryRenderer();
+
+    @Test
+    void givenEmptySnapshot_whenRendering_thenTextIsEmpty() {
+        assertEquals("", renderer.render(SummarySnapshot.EMPTY));
+    }
+
+    @Test
+    void givenSameSnapshot_whenRenderingAgain_thenCachedTextIsReturned() {
+        SummarySnapshot snapshot = new SummarySnapshot(1, List.of(new Match("Spain", "Brazil", 10, 2, 0)));
+
+        String text = renderer.render(snapshot);
+
+        assertEquals("Spain 10 - 2 Brazil\n", text);
+        assertSame(text, renderer.render(snapshot));
+    }
+
+    @Test
+    void givenChangedSnapshot_whenRendering_thenOnlyCurrentMatchesAreRendered() {
+        renderer.render(new SummarySnapshot(1, List.of(
+                new Match("Spain", "Brazil", 10, 2, 0),
+                new Match("Mexico", "Canada", 0, 5, 0))));
+
+        String text = renderer.render(new SummarySnapshot(2, List.of(
+                new Match("Mexico", "Canada", 7, 5, 0),
+                new Match("Germany", "France", 2, 2, 0))));
+
+        assertEquals("Mexico 7 - 5 Canada\nGermany 2 - 2 France\n", text);
+    }
+
+    @Test
+    void givenHomeTeamPlayingANewOpponent_whenRendering_thenLineIsRebuilt() {
+        renderer.render(new SummarySnapshot(1, List.of(new Match("Spain", "Brazil", 1, 1, 0))));
+
+        assertEquals("Spain 1 - 1 Italy\n", renderer.render(new SummarySnapshot(2, List.of(new Match("Spain", "Italy", 1, 1, 0)))));
+        assertEquals("Spain 1 - 2 Italy\n", renderer.render(new SummarySnapshot(3, List.of(new Match("Spain", "Italy", 1, 2, 0)))));
+        assertEquals("Spain 2 - 2 Italy\n", renderer.render(new SummarySnapshot(4, List.of(new Match("Spain", "Italy", 2, 2, 0)))));
+        assertEquals("Spain 2 - 2 Italy\n", renderer.render(new SummarySnapshot(5, List.of(new Match("Spain", "Italy", 2, 2, 0)))));
+    }
+}
@@ -0,0 +1,91 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummarySnapshotTest {
+
+    @Test
+    void givenEmptySnapshot_whenReading_thenVersionIsZeroAndNoMatches() {
+        assertEquals(0, SummarySnapshot.EMPTY.getVersion());
+        assertTrue(SummarySnapshot.EMPTY.getMatches().isEmpty());
+    }
+
+    @Test
+    void givenSnapshot_whenModifyingMatches_thenThrowsException() {
+        List<Match> matches = new ArrayList<>(List.of(new Match("TeamA", "TeamB")));
+        SummarySnapshot snapshot = new SummarySnapshot(3, matches);
+
+        assertEquals(3, snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getMatches().clear());
+    }
+
+    @Test
+    void givenSnapshot_whenEncodingBinary_thenMatchesAreWrittenInSummaryOrder() {
+        Match first = new Match("Spain", "Brazil", 10, 2, 0);
+        Match second = new Match("Côte d'Ivoire", "Canada", 0, 5, 0);
+        SummarySnapshot snapshot = new SummarySnapshot(7, List.of(first, second));
+
+        ByteBuffer binary = snapshot.getBinary();
+
+        assertEquals(7, binary.getLong());
+        assertEquals(2, binary.getInt());
+        assertEquals("Spain", readName(binary));
+        assertEquals("Brazil", readName(binary));
+        assertEquals(10, binary.getInt());
+        assertEquals(2, binary.getInt());
+        assertEquals("Côte d'Ivoire", readName(binary));
+        assertEquals("Canada", readName(binary));
+        assertEquals(0, binary.getInt());
+        assertEquals(5, binary.getInt());
+        assertFalse(binary.hasRemaining());
+    }
+
+    @Test
+    void givenConsumedEncoding_whenAskingAgain_thenCallerGetsAFreshReadOnlyView() {
+        SummarySnapshot snapshot = new SummarySnapshot(1, List.of(new Match("TeamA", "TeamB")));
+        ByteBuffer first = snapshot.getBinary();
+        first.position(first.limit());
+
+        ByteBuffer second = snapshot.getBinary();
+
+        assertEquals(0, second.position());
+        assertEquals(first.limit(), second.remaining());
+        assertTrue(second.isReadOnly());
+        assertTrue(second.isDirect());
+        assertTrue(snapshot.getJson().isDirect());
+        assertThrows(ReadOnlyBufferException.class, () -> second.put(0, (byte) 1));
+        assertEquals(snapshot.getJson().remaining(), snapshot.getJson().remaining());
+    }
+
+    @Test
+    void givenSnapshot_whenEncodingJson_thenNamesAreEscaped() {
+        Match match = new Match("A \"B\"\\", "C\n\r\t\u0001", 1, 2, 0);
+        SummarySnapshot snapshot = new SummarySnapshot(4, List.of(match, new Match("D", "E", 0, 0, 0)));
+
+        String json = StandardCharsets.UTF_8.decode(snapshot.getJson()).toString();
+
+        assertEquals("{\"version\":4,\"matches\":["
+                + "{\"homeTeam\":\"A \\\"B\\\"\\\\\",\"awayTeam\":\"C\\n\\r\\t\\u0001\",\"homeScore\":1,\"awayScore\":2},"
+                + "{\"homeTeam\":\"D\",\"awayTeam\":\"E\",\"homeScore\":0,\"awayScore\":0}]}", json);
+    }
+
+    @Test
+    void givenEmptySnapshot_whenEncoding_thenOnlyTheHeaderIsWritten() {
+        assertEquals(Long.BYTES + Integer.BYTES, SummarySnapshot.EMPTY.getBinary().remaining());
+        assertEquals("{\"version\":0,\"matches\":[]}", StandardCharsets.UTF_8.decode(SummarySnapshot.EMPTY.getJson()).toString());
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        byte[] name = new byte[buffer.getInt()];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,120 @@
+package scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryTreeTest {
+
+    private SummaryTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new SummaryTree(2);
+    }
+
+    @Test
+    void givenEmptyTree_whenVisiting_thenNothingIsVisited() {
+        assertEquals(0, tree.size());
+        assertEquals(List.of(), slots(0, 10));
+    }
+
+    @Test
+    void givenSlots_whenInserted_thenVisitedByTotalThenMostRecent() {
+        tree.insert(0, 1, 1);
+        tree.insert(1, 3, 2);
+        tree.insert(2, 1, 3);
+        tree.insert(3, 0, 4);
+
+        assertEquals(List.of(1, 2, 0, 3), slots(0, 10));
+        assertEquals(List.of(2, 0), slots(1, 2));
+        assertEquals(List.of(3), slots(3, Integer.MAX_VALUE));
+        assertEquals(List.of(), slots(4, 1));
+        assertEquals(4, tree.size());
+    }
+
+    @Test
+    void givenSlots_whenAskingRank_thenSummaryPositionIsReturned() {
+        tree.insert(0, 1, 1);
+        tree.insert(1, 3, 2);
+        tree.insert(2, 1, 3);
+
+        assertEquals(0, tree.rank(1));
+        assertEquals(1, tree.rank(2));
+        assertEquals(2, tree.rank(0));
+    }
+
+    @Test
+    void givenRandomInsertsAndRemovals_whenComparedWithTreeSet_thenOrderAndRanksMatch() {
+        Random random = new Random(42);
+        int[] totals = new int[500];
+        long[] sequences = new long[500];
+        boolean[] present = new boolean[500];
+        TreeSet<Integer> expected = new TreeSet<>(Comparator.<Integer>comparingInt(slot -> totals[slot])
+                .thenComparingLong(slot -> sequences[slot])
+                .reversed());
+        long sequence = 0;
+
+        for (int step = 0; step < 5_000; step++) {
+            int slot = random.nextInt(totals.length);
+            if (present[slot]) {
+                expected.remove(slot);
+                tree.remove(slot);
+                present[slot] = false;
+            } else {
+                totals[slot] = random.nextInt(10);
+                sequences[slot] = ++sequence;
+                tree.insert(slot, totals[slot], sequences[slot]);
+                expected.add(slot);
+                present[slot] = true;
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(expected);
+        assertEquals(order, slots(0, order.size()));
+        assertEquals(order.subList(10, 30), slots(10, 20));
+        for (int rank = 0; rank < order.size(); rank++) {
+            assertEquals(rank, tree.rank(order.get(rank)));
+        }
+    }
+
+    @Test
+    void givenLargeTree_whenWalking_thenSlotsComeInVisitOrder() {
+        int count = 1_000;
+        for (int slot = 0; slot < count; slot++) {
+            tree.insert(slot, slot % 7, slot);
+        }
+        SummaryTree.Walk walk = tree.walk();
+
+        List<Integer> walked = new ArrayList<>();
+        walk.restart();
+        for (int slot = walk.next(); slot != SummaryTree.NIL; slot = walk.next()) {
+            walked.add(slot);
+        }
+
+        assertEquals(slots(0, count), walked);
+        walk.restart();
+        assertEquals((int) slots(0, 1).getFirst(), walk.next());
+    }
+
+    @Test
+    void givenEmptyTree_whenWalking_thenNothingIsReturned() {
+        SummaryTree.Walk walk = tree.walk();
+        walk.restart();
+
+        assertEquals(SummaryTree.NIL, walk.next());
+    }
+
+    private List<Integer> slots(int offset, int limit) {
+        List<Integer> slots = new ArrayList<>();
+        tree.forEach(offset, limit, slots::add);
+        return slots;
+    }
+}
@@ -0,0 +1,172 @@
+package scoreboard.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import scoreboard.ConcurrentScoreBoard;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.SimpleScoreBoard;
+import scoreboard.event.MatchEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_INVALID_ARCHIVE_CHUNK;
+import static scoreboard.Constants.ERR_INVALID_NAMES;
+
+class FinishedMatchArchiveTest {
+
+    private FinishedMatchArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new FinishedMatchArchive(2);
+    }
+
+    @Test
+    void givenAttachedBoard_whenFinishingMatches_thenFinalResultsAreArchived() {
+        ScoreBoard board = new SimpleScoreBoard();
+        archive.attachTo(board);
+        board.startNewMatch("Mexico", "Canada");
+        board.updateScore("Mexico", "Canada", 0, 5);
+        long startTime = board.getSummary().getFirst().getStartTime();
+
+        board.finishMatch("Mexico", "Canada");
+
+        assertEquals(1, archive.size());
+        assertEquals(new ArchivedMatch("Mexico", "Canada", 0, 5, startTime), archive.get(0));
+        assertTrue(board.getSummary().isEmpty());
+        assertFalse(((MatchEventPublisher) board.changes()).hasSubscribers());
+    }
+
+    @Test
+    void givenAttachedConcurrentBoard_whenFinishingMatches_thenFinalResultsAreArchived() {
+        ScoreBoard board = new ConcurrentScoreBoard(4);
+        archive.attachTo(board);
+        board.startNewMatch("Mexico", "Canada");
+        board.updateScore("Mexico", "Canada", 2, 2);
+        board.finishMatch("Mexico", "Canada");
+
+        assertEquals(2, archive.get(0).homeScore());
+    }
+
+    @Test
+    void givenFailingArchive_whenAttachedWithErrorHandler_thenFailureIsReported() {
+        IllegalStateException failure = new IllegalStateException("Archive is full");
+        FinishedMatchArchive failing = new FinishedMatchArchive() {
+            @Override
+            public void archive(Match match) {
+                throw failure;
+            }
+        };
+        List<RuntimeException> errors = new ArrayList<>();
+        ScoreBoard board = new SimpleScoreBoard();
+        failing.attachTo(board, errors::add);
+        board.startNewMatch("Mexico", "Canada");
+
+        board.finishMatch("Mexico", "Canada");
+
+        assertEquals(List.of(failure), errors);
+        assertTrue(board.getSummary().isEmpty());
+    }
+
+    @Test
+    void givenArchiveAttachedWithErrorHandler_whenFinishingMatches_thenResultsAreArchived() {
+        List<RuntimeException> errors = new ArrayList<>();
+        ScoreBoard board = new SimpleScoreBoard();
+        archive.attachTo(board, errors::add);
+        board.startNewMatch("Mexico", "Canada");
+
+        board.finishMatch("Mexico", "Canada");
+
+        assertEquals(1, archive.size());
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void givenMoreMatchesThanOneChunk_whenIterating_thenAllAreReturnedInFinishOrder() {
+        for (int i = 0; i < 5; i++) {
+            archive.archive(match("Home" + i, "Away" + i, i, 0));
+        }
+
+        List<String> homeTeams = new ArrayList<>();
+        archive.forEach(match -> homeTeams.add(match.homeTeam()));
+
+        assertEquals(List.of("Home0", "Home1", "Home2", "Home3", "Home4"), homeTeams);
+        assertEquals(4, archive.get(4).homeScore());
+    }
+
+    @Test
+    void givenTeamPlayingHomeAndAway_whenFindingByTeam_thenItsMatchesAreReturnedMostRecentFirst() {
+        archive.archive(match("Mexico", "Canada", 1, 0));
+        archive.archive(match("Spain", "Brazil", 2, 0));
+        archive.archive(match("Canada", "Mexico", 3, 0));
+        archive.archive(match("Germany", "Mexico", 4, 0));
+
+        List<ArchivedMatch> mexico = archive.findByTeam("Mexico");
+
+        assertEquals(List.of(4, 3, 1), mexico.stream().map(ArchivedMatch::homeScore).toList());
+        assertEquals(List.of(3, 1), archive.findByTeam("Canada").stream().map(ArchivedMatch::homeScore).toList());
+    }
+
+    @Test
+    void givenUnknownTeam_whenFindingByTeam_thenNothingIsReturned() {
+        archive.archive(match("Mexico", "Canada", 1, 0));
+
+        assertTrue(archive.findByTeam("Brazil").isEmpty());
+    }
+
+    @Test
+    void givenManyTeams_whenArchiving_thenTeamIndexGrows() {
+        for (int i = 0; i < 40; i++) {
+            archive.archive(match("Home" + i, "Away" + i, i, i));
+        }
+
+        assertEquals(40, archive.size());
+        List<ArchivedMatch> matches = archive.findByTeam("Away39");
+        assertEquals(1, matches.size());
+        assertEquals("Home39", matches.getFirst().homeTeam());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1})
+    void givenIndexOutOfRange_whenGetting_thenThrows(int index) {
+        archive.archive(match("Mexico", "Canada", 1, 0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> archive.get(index));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", " "})
+    void givenInvalidTeam_whenFindingByTeam_thenThrows(String team) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> archive.findByTeam(team));
+        assertEquals(ERR_INVALID_NAMES, exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void givenInvalidChunkSize_whenCreating_thenThrows(int chunkRecords) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new FinishedMatchArchive(chunkRecords));
+        assertEquals(ERR_INVALID_ARCHIVE_CHUNK, exception.getMessage());
+    }
+
+    @Test
+    void givenDefaultArchive_whenArchiving_thenMatchIsStored() {
+        FinishedMatchArchive defaultArchive = new FinishedMatchArchive();
+        defaultArchive.archive(match("Mexico", "Canada", 1, 0));
+
+        assertEquals(1, defaultArchive.size());
+    }
+
+    private static Match match(String home, String away, int homeScore, int awayScore) {
+        SimpleScoreBoard board = new SimpleScoreBoard();
+        board.startNewMatch(home, away);
+        board.updateScore(home, away, homeScore, awayScore);
+        return board.getSummary().getFirst();
+    }
+}
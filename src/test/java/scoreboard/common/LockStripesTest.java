@@ -0,0 +1,49 @@
+package scoreboard.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_INVALID_STRIPES;
+
+class LockStripesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void givenNonPositiveCount_whenCreating_thenThrowsException(int count) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new LockStripes(count));
+        assertEquals(ERR_INVALID_STRIPES, exception.getMessage());
+    }
+
+    @Test
+    void givenTeamsOnOneStripe_whenLockingBoth_thenStripeIsTakenOnce() throws Exception {
+        LockStripes stripes = new LockStripes(1);
+
+        stripes.lock("TeamA", "TeamB");
+        stripes.unlock("TeamA", "TeamB");
+
+        CompletableFuture.runAsync(stripes::lockAll).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void givenAllStripesHeld_whenLockingTeam_thenItWaitsUntilReleased() throws Exception {
+        LockStripes stripes = new LockStripes(4);
+        stripes.lockAll();
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            stripes.lock("TeamA", "TeamB");
+            stripes.unlock("TeamA", "TeamB");
+            stripes.lock("TeamC");
+            stripes.unlock("TeamC");
+        });
+
+        assertThrows(TimeoutException.class, () -> writer.get(100, TimeUnit.MILLISECONDS));
+        stripes.unlockAll();
+        writer.get(5, TimeUnit.SECONDS);
+    }
+}
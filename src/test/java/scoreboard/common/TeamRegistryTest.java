@@ -0,0 +1,71 @@
+package scoreboard.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_UNKNOWN_TEAM_ID;
+
+class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TeamRegistry();
+    }
+
+    @Test
+    void givenNewTeams_whenRegistering_thenDenseIdsAreAssigned() {
+        assertEquals(0, registry.register("TeamA"));
+        assertEquals(1, registry.register("TeamB"));
+        assertEquals(2, registry.size());
+        assertEquals("TeamA", registry.nameOf(0));
+        assertEquals("TeamB", registry.nameOf(1));
+    }
+
+    @Test
+    void givenRegisteredTeam_whenRegisteringAgain_thenSameIdIsReturned() {
+        int id = registry.register("TeamA");
+        assertEquals(id, registry.register(new String("TeamA")));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void givenTeams_whenFinding_thenIdOrUnknownIsReturned() {
+        registry.register("TeamA");
+        assertEquals(0, registry.find("TeamA"));
+        assertEquals(TeamRegistry.UNKNOWN, registry.find("TeamB"));
+    }
+
+    @Test
+    void givenManyTeams_whenRegistryGrows_thenAllIdsAreKept() {
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, registry.register("Team" + i));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, registry.find("Team" + i));
+            assertEquals("Team" + i, registry.nameOf(i));
+        }
+        assertEquals(1_000, registry.size());
+    }
+
+    @Test
+    void givenCollidingHashes_whenRegistering_thenTeamsStayDistinct() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        int first = registry.register("Aa");
+        int second = registry.register("BB");
+        assertNotEquals(first, second);
+        assertEquals(second, registry.find("BB"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1})
+    void givenUnknownId_whenGettingName_thenThrowsException(int id) {
+        registry.register("TeamA");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> registry.nameOf(id));
+        assertEquals(String.format(ERR_UNKNOWN_TEAM_ID, id), exception.getMessage());
+    }
+}
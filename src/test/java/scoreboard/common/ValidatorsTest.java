@@ -2,7 +2,10 @@ package scoreboard.common;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static scoreboard.Constants.*;
@@ -21,16 +24,38 @@ class ValidatorsTest {
     }
 
     @Test
-    void givenInvalidNameWithKeySeparator_whenValidateNames_thenIllegalArgumentExceptionThrown() {
-        String home = "Team-A";
-        String away = "TeamB";
-        IllegalArgumentException exception1 = assertThrows(IllegalArgumentException.class, () ->
-                Validators.validateNames(home, away));
-        IllegalArgumentException exception2 = assertThrows(IllegalArgumentException.class, () ->
-                Validators.validateNames(away, home));
+    void givenNamesWithHyphen_whenValidateNames_thenNoExceptionThrown() {
+        assertDoesNotThrow(() -> Validators.validateNames("Guinea-Bissau", "TeamB"));
+        assertDoesNotThrow(() -> Validators.validateNames("TeamB", "Guinea-Bissau"));
+    }
 
-        assertEquals(ERR_INVALID_TEAM_NAME_CHARACTERS, exception1.getMessage());
-        assertEquals(ERR_INVALID_TEAM_NAME_CHARACTERS, exception2.getMessage());
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", " "})
+    void givenInvalidName_whenValidateName_thenIllegalArgumentExceptionThrown(String team) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                Validators.validateName(team));
+        assertEquals(ERR_INVALID_NAMES, exception.getMessage());
+    }
+
+    @Test
+    void givenValidName_whenValidateName_thenNoExceptionThrown() {
+        assertDoesNotThrow(() -> Validators.validateName("TeamA"));
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @CsvSource({
+            "-1, 0",
+            "0, -1"
+    })
+    void givenNegativeScore_whenValidateScores_thenIllegalArgumentExceptionThrown(int home, int away) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                Validators.validateScores(home, away));
+        assertEquals(ERR_NEGATIVE_SCORE, exception.getMessage());
+    }
+
+    @Test
+    void givenNonNegativeScores_whenValidateScores_thenNoExceptionThrown() {
+        assertDoesNotThrow(() -> Validators.validateScores(0, 3));
+    }
+}
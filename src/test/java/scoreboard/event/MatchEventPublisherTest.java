@@ -0,0 +1,269 @@
+package scoreboard.event;
+
+import fixtures.RecordingSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import scoreboard.Match;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_INVALID_EVENT_BUFFER_SIZE;
+import static scoreboard.Constants.ERR_NON_POSITIVE_DEMAND;
+import static scoreboard.Constants.ERR_SUBSCRIBER_OVERFLOW;
+
+class MatchEventPublisherTest {
+
+    private MatchEventPublisher publisher;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new MatchEventPublisher(Runnable::run);
+        match = new Match("TeamA", "TeamB");
+    }
+
+    @Test
+    void givenNoSubscribers_whenPublishing_thenNothingHappens() {
+        assertFalse(publisher.hasSubscribers());
+        assertDoesNotThrow(() -> publisher.publish(new MatchEvent.MatchStarted(match, 0)));
+    }
+
+    @Test
+    void givenSubscriberWithDemand_whenPublishing_thenEventsAreDeliveredInOrder() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(Long.MAX_VALUE);
+        MatchEvent started = new MatchEvent.MatchStarted(match, 0);
+        MatchEvent finished = new MatchEvent.MatchFinished(match, 0);
+
+        publisher.publish(started);
+        publisher.publish(finished);
+
+        assertTrue(publisher.hasSubscribers());
+        assertEquals(1, publisher.getSubscriberCount());
+        assertEquals(List.of(started, finished), subscriber.getItems());
+    }
+
+    @Test
+    void givenLimitedDemand_whenPublishing_thenEventsWaitForRequests() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(1);
+        MatchEvent started = new MatchEvent.MatchStarted(match, 0);
+        MatchEvent finished = new MatchEvent.MatchFinished(match, 0);
+
+        publisher.publish(started);
+        publisher.publish(finished);
+        assertEquals(List.of(started), subscriber.getItems());
+
+        subscriber.request(5);
+        assertEquals(List.of(started, finished), subscriber.getItems());
+    }
+
+    @Test
+    void givenSlowSubscriber_whenScoreChangesPileUp_thenTheyAreCoalesced() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(0);
+        Match latest = new Match("TeamA", "TeamB");
+        Match other = new Match("TeamC", "TeamD");
+
+        publisher.publish(new MatchEvent.ScoreChanged(match, 0, 0, 3, 2));
+        publisher.publish(new MatchEvent.ScoreChanged(other, 0, 0, 1, 1));
+        publisher.publish(new MatchEvent.ScoreChanged(latest, 1, 0, 2, 0));
+        subscriber.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(new MatchEvent.ScoreChanged(latest, 0, 0, 3, 0), new MatchEvent.ScoreChanged(other, 0, 0, 1, 1)),
+                subscriber.getItems());
+    }
+
+    @Test
+    void givenPendingScoreChangeFollowedByFinish_whenDelivering_thenLaterChangesAreNotFoldedAcrossTheFinish() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(0);
+        MatchEvent first = new MatchEvent.ScoreChanged(match, 0, 0, 0, 0);
+        MatchEvent finished = new MatchEvent.MatchFinished(match, 0);
+        MatchEvent restarted = new MatchEvent.MatchStarted(match, 0);
+        MatchEvent second = new MatchEvent.ScoreChanged(match, 0, 0, 0, 0);
+
+        publisher.publish(first);
+        publisher.publish(finished);
+        publisher.publish(restarted);
+        publisher.publish(second);
+        subscriber.request(10);
+
+        assertEquals(List.of(first, finished, restarted, second), subscriber.getItems());
+    }
+
+    @Test
+    void givenDeliveredScoreChange_whenNextChangeArrives_thenItIsDeliveredSeparately() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(Long.MAX_VALUE);
+        MatchEvent first = new MatchEvent.ScoreChanged(match, 0, 0, 0, 0);
+        MatchEvent second = new MatchEvent.ScoreChanged(match, 1, 0, 0, 0);
+
+        publisher.publish(first);
+        publisher.publish(second);
+
+        assertEquals(List.of(first, second), subscriber.getItems());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void givenNonPositiveBufferSize_whenCreatingPublisher_thenThrowsException(int bufferSize) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new MatchEventPublisher(Runnable::run, bufferSize));
+        assertEquals(ERR_INVALID_EVENT_BUFFER_SIZE, exception.getMessage());
+    }
+
+    @Test
+    void givenSubscriberFallingBehindBuffer_whenPublishing_thenItIsCancelledWithError() {
+        publisher = new MatchEventPublisher(Runnable::run, 2);
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(0);
+        Match other = new Match("TeamC", "TeamD");
+
+        publisher.publish(new MatchEvent.ScoreChanged(match, 0, 0, 0, 0));
+        publisher.publish(new MatchEvent.ScoreChanged(match, 1, 0, 0, 0));
+        publisher.publish(new MatchEvent.MatchStarted(other, 1));
+        assertTrue(subscriber.getErrors().isEmpty());
+
+        publisher.publish(new MatchEvent.MatchFinished(other, 1));
+        subscriber.request(10);
+
+        assertEquals(String.format(ERR_SUBSCRIBER_OVERFLOW, 2), subscriber.getErrors().getFirst().getMessage());
+        assertTrue(subscriber.getItems().isEmpty());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void givenDeferredExecutor_whenPublishing_thenEventIsBuiltAndFannedOutOnTheExecutorInOrder() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        publisher = new MatchEventPublisher(tasks::add);
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(Long.MAX_VALUE);
+        AtomicInteger built = new AtomicInteger();
+        MatchEvent started = new MatchEvent.MatchStarted(match, 0);
+        MatchEvent finished = new MatchEvent.MatchFinished(match, 0);
+
+        publisher.publish(() -> {
+            built.incrementAndGet();
+            return started;
+        });
+        publisher.publish(finished);
+        assertEquals(0, built.get());
+
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+
+        assertEquals(1, built.get());
+        assertEquals(List.of(started, finished), subscriber.getItems());
+    }
+
+    @Test
+    void givenCancelledSubscription_whenPublishing_thenNothingIsDelivered() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(Long.MAX_VALUE);
+        subscriber.cancel();
+
+        publisher.publish(new MatchEvent.MatchStarted(match, 0));
+
+        assertTrue(subscriber.getItems().isEmpty());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void givenNonPositiveRequest_whenRequesting_thenSubscriberReceivesErrorAndIsRemoved(long n) {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(0);
+
+        subscriber.request(n);
+        subscriber.request(1);
+
+        assertEquals(1, subscriber.getErrors().size());
+        assertEquals(ERR_NON_POSITIVE_DEMAND, subscriber.getErrors().getFirst().getMessage());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void givenOverflowingRequests_whenRequesting_thenDemandIsCappedAsUnbounded() {
+        RecordingSubscriber<MatchEvent> subscriber = subscribe(Long.MAX_VALUE - 1);
+        subscriber.request(Long.MAX_VALUE);
+
+        publisher.publish(new MatchEvent.MatchStarted(match, 0));
+        publisher.publish(new MatchEvent.MatchFinished(match, 0));
+
+        assertEquals(2, subscriber.getItems().size());
+    }
+
+    @Test
+    void givenThrowingSubscriber_whenDelivering_thenSubscriptionIsCancelledWithError() {
+        List<Throwable> errors = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MatchEvent item) {
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                // never completes
+            }
+        });
+
+        publisher.publish(new MatchEvent.MatchStarted(match, 0));
+
+        assertEquals("boom", errors.getFirst().getMessage());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void givenAsyncExecutor_whenPublishingFromManyThreads_thenEveryEventIsDelivered() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            MatchEventPublisher asyncPublisher = new MatchEventPublisher(executor);
+            CountDownLatch delivered = new CountDownLatch(4_000);
+            RecordingSubscriber<MatchEvent> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE) {
+                @Override
+                public void onNext(MatchEvent item) {
+                    super.onNext(item);
+                    delivered.countDown();
+                }
+            };
+            asyncPublisher.subscribe(subscriber);
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        asyncPublisher.publish(new MatchEvent.MatchStarted(match, i));
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RecordingSubscriber<MatchEvent> subscribe(long demand) {
+        RecordingSubscriber<MatchEvent> subscriber = new RecordingSubscriber<>(demand);
+        publisher.subscribe(subscriber);
+        return subscriber;
+    }
+}
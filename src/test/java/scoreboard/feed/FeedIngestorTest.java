@@ -0,0 +1,226 @@
+package scoreboard.feed;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.SimpleScoreBoard;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.*;
+
+class FeedIngestorTest {
+
+    private final ScoreBoard board = new SimpleScoreBoard();
+    private final List<FeedError> errors = new ArrayList<>();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenFeed_whenIngestingChannel_thenRecordsAreAppliedInOrder() throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add);
+
+        FeedResult result = ingestor.ingest(channel("""
+                # opening day
+                START Mexico Canada\r
+                START\t"United States"  Brazil
+
+                SCORE Mexico Canada 0 5
+                SCORE "United States" Brazil 2 2
+                FINISH Mexico Canada"""));
+
+        assertTrue(errors.isEmpty());
+        assertEquals(new FeedResult(5, 5, 0), result);
+        List<Match> summary = board.getSummary();
+        assertEquals(1, summary.size());
+        assertEquals("United States", summary.getFirst().getHomeTeam());
+        assertEquals(2, summary.getFirst().getAwayTeamPoints());
+    }
+
+    @Test
+    void givenIndentedLines_whenIngesting_thenLeadingSeparatorsAreSkipped() throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add);
+
+        FeedResult result = ingestor.ingest(channel("  START Mexico Canada\n\t# indented comment\n \t\n\t SCORE Mexico Canada 1 0\n"));
+
+        assertTrue(errors.isEmpty());
+        assertEquals(new FeedResult(2, 2, 0), result);
+        assertEquals(1, board.getSummary().getFirst().getHomeTeamPoints());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "KICKOFF Mexico Canada",
+            "START Mexico",
+            "START Mexico Canada Spain",
+            "SCORE Mexico Canada 1",
+            "SCORE Mexico Canada 1 2 3",
+            "SCORE Mexico Canada one 2",
+            "SCORE Mexico Canada 1 -",
+            "SCORE Mexico Canada 1 2147483648",
+            "SCORE Mexico Canada 1 12345678901",
+            "START \"Mexico Canada",
+            "START \"Mexico\"Canada Spain",
+            "STARTS Mexico Canada"
+    })
+    void givenMalformedRecord_whenIngesting_thenItIsReportedWithItsLine(String record) throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add);
+
+        FeedResult result = ingestor.ingest(channel("START Mexico Canada\n" + record + "\n"));
+
+        assertEquals(new FeedResult(2, 1, 1), result);
+        assertEquals(1, errors.size());
+        assertEquals(2, errors.getFirst().lineNumber());
+        assertEquals(record, errors.getFirst().line());
+        assertInstanceOf(IllegalArgumentException.class, errors.getFirst().error());
+        assertEquals(String.format(ERR_MALFORMED_FEED_RECORD, 2), errors.getFirst().error().getMessage());
+    }
+
+    @Test
+    void givenRejectedRecords_whenIngesting_thenBoardErrorsAreReportedWithTheirLines() throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add);
+
+        FeedResult result = ingestor.ingest(channel("""
+                START Mexico Canada
+                START Mexico Canada
+                SCORE Mexico Canada -1 0
+                FINISH Spain Brazil
+                SCORE Mexico Canada 1 0
+                """));
+
+        assertEquals(new FeedResult(5, 2, 3), result);
+        assertEquals(List.of(2L, 3L, 4L), errors.stream().map(FeedError::lineNumber).toList());
+        assertEquals("START Mexico Canada", errors.get(0).line());
+        assertEquals(String.format(ERR_GAME_EXISTS, "Mexico", "Canada"), errors.get(0).error().getMessage());
+        assertEquals(ERR_NEGATIVE_SCORE, errors.get(1).error().getMessage());
+        assertEquals(String.format(ERR_GAME_NOT_FOUND, "Spain", "Brazil"), errors.get(2).error().getMessage());
+        assertEquals(1, board.getSummary().getFirst().getHomeTeamPoints());
+    }
+
+    @Test
+    void givenSmallBatchesAndBuffer_whenIngestingChunkedChannel_thenEveryRecordIsApplied() throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add, 2, 8, 64);
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            feed.append("START Home").append(i).append(" Away").append(i).append('\n');
+            feed.append("SCORE Home").append(i).append(" Away").append(i).append(' ').append(i).append(" 0\n");
+        }
+
+        FeedResult result = ingestor.ingest(new TrickleChannel(feed.toString().getBytes(StandardCharsets.UTF_8), 3));
+
+        assertTrue(errors.isEmpty());
+        assertEquals(new FeedResult(100, 100, 0), result);
+        assertEquals("Home49", board.getSummary().getFirst().getHomeTeam());
+        assertEquals(50, board.getSummary().size());
+    }
+
+    @Test
+    void givenRejectedRecordInEarlierBatch_whenIngestingInSmallBatches_thenLineTextIsKept() throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add, 1, 8, 64);
+
+        ingestor.ingest(new TrickleChannel("FINISH Spain Brazil\nSTART Mexico Canada\n".getBytes(StandardCharsets.UTF_8), 5));
+
+        assertEquals(1, errors.size());
+        assertEquals("FINISH Spain Brazil", errors.getFirst().line());
+        assertEquals(1, board.getSummary().size());
+    }
+
+    @Test
+    void givenFeedFile_whenIngestingWithSmallMappingWindow_thenLinesAcrossWindowsAreApplied() throws IOException {
+        Path file = directory.resolve("tournament.feed");
+        Files.writeString(file, """
+                START Mexico Canada
+                START "Bosnia and Herzegovina" Brazil
+                SCORE Mexico Canada 0 5
+                SCORE "Bosnia and Herzegovina" Brazil 3 3
+                FINISH Spain Brazil
+                """);
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add, 4, 8, 16);
+
+        FeedResult result = ingestor.ingest(file);
+
+        assertEquals(new FeedResult(5, 4, 1), result);
+        assertEquals(5, errors.getFirst().lineNumber());
+        List<Match> summary = board.getSummary();
+        assertEquals("Bosnia and Herzegovina", summary.getFirst().getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+    }
+
+    @Test
+    void givenEmptyFile_whenIngesting_thenNothingIsApplied() throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.feed"));
+
+        FeedResult result = new FeedIngestor(board, errors::add).ingest(file);
+
+        assertEquals(new FeedResult(0, 0, 0), result);
+        assertTrue(board.getSummary().isEmpty());
+    }
+
+    @Test
+    void givenIngestorReused_whenIngestingAgain_thenCountsStartOver() throws IOException {
+        FeedIngestor ingestor = new FeedIngestor(board, errors::add);
+        ingestor.ingest(channel("START Mexico Canada\n"));
+
+        FeedResult result = ingestor.ingest(channel("FINISH Mexico Canada\n"));
+
+        assertEquals(new FeedResult(1, 1, 0), result);
+        assertTrue(board.getSummary().isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void givenNonPositiveBatchSize_whenCreatingIngestor_thenThrowsException(int batchSize) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new FeedIngestor(board, errors::add, batchSize));
+        assertEquals(ERR_INVALID_BATCH_SIZE, exception.getMessage());
+    }
+
+    private static ReadableByteChannel channel(String feed) {
+        return Channels.newChannel(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class TrickleChannel implements ReadableByteChannel {
+
+        private final ByteBuffer source;
+        private final int chunk;
+
+        private TrickleChannel(byte[] bytes, int chunk) {
+            this.source = ByteBuffer.wrap(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(ByteBuffer target) {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            int length = Math.min(chunk, Math.min(source.remaining(), target.remaining()));
+            target.put(source.slice(source.position(), length));
+            source.position(source.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package scoreboard.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameTableTest {
+
+    private final NameTable names = new NameTable();
+
+    @Test
+    void givenSameBytes_whenInterning_thenSameStringIsReturned() {
+        ByteBuffer buffer = ByteBuffer.wrap("Mexico Canada Mexico".getBytes(StandardCharsets.UTF_8));
+
+        String first = names.intern(buffer, 0, 6);
+        String second = names.intern(buffer, 14, 20);
+
+        assertEquals("Mexico", first);
+        assertSame(first, second);
+        assertEquals("Canada", names.intern(buffer, 7, 13));
+    }
+
+    @Test
+    void givenManyNames_whenInterning_thenTableGrowsAndKeepsEveryName() {
+        String[] interned = new String[1000];
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = names.intern(bytes("Team" + i), 0, ("Team" + i).length());
+        }
+
+        for (int i = 0; i < interned.length; i++) {
+            assertSame(interned[i], names.intern(bytes("Team" + i), 0, ("Team" + i).length()));
+        }
+        assertEquals("Team999", interned[999]);
+    }
+
+    @Test
+    void givenPrefixOfKnownName_whenInterning_thenItIsADifferentName() {
+        names.intern(bytes("Korea Republic"), 0, 14);
+
+        assertEquals("Korea", names.intern(bytes("Korea Republic"), 0, 5));
+    }
+
+    @Test
+    void givenNamesWithCollidingHashes_whenInterning_thenEachKeepsItsOwnEntry() {
+        String sameLength = names.intern(bytes("Aa"), 0, 2);
+        String otherLength = names.intern(bytes("lsWjqj"), 0, 6);
+
+        assertEquals("BB", names.intern(bytes("BB"), 0, 2));
+        assertEquals("QwCpnPJ", names.intern(bytes("QwCpnPJ"), 0, 7));
+        assertSame(sameLength, names.intern(bytes("Aa"), 0, 2));
+        assertSame(otherLength, names.intern(bytes("lsWjqj"), 0, 6));
+    }
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,191 @@
+package scoreboard.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import scoreboard.Match;
+import scoreboard.ScoreEvent;
+import scoreboard.SimpleScoreBoard;
+import scoreboard.SummarySnapshot;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.*;
+
+class RingBufferIngestorTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int UPDATES = 1_000;
+
+    private final List<IngestFailure> failures = new CopyOnWriteArrayList<>();
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void givenConcurrentProducers_whenPublishing_thenEveryCommandIsApplied(WaitStrategy waitStrategy) throws InterruptedException {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), 64, waitStrategy, 16, failures::add);
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            String home = "Home" + p;
+            String away = "Away" + p;
+            producers[p] = new Thread(() -> {
+                ingestor.startNewMatch(home, away);
+                for (int goal = 1; goal <= UPDATES; goal++) {
+                    ingestor.updateScore(home, away, goal, 0);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        ingestor.close();
+
+        assertTrue(failures.isEmpty());
+        assertEquals(PRODUCERS * (UPDATES + 1L), ingestor.getAppliedCount());
+        List<Match> matches = ingestor.getSnapshot().getMatches();
+        assertEquals(PRODUCERS, matches.size());
+        for (Match match : matches) {
+            assertEquals(UPDATES, match.getHomeTeamPoints());
+        }
+    }
+
+    @Test
+    void givenRejectedCommands_whenApplying_thenFailuresCarryTheirSequence() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), failures::add);
+        ingestor.startNewMatch("Mexico", "Canada");
+        long rejected = ingestor.finishMatch("Spain", "Brazil");
+        long last = ingestor.updateScore("Mexico", "Canada", 1, 0);
+
+        ingestor.awaitApplied(last);
+
+        assertEquals(1, failures.size());
+        assertEquals(rejected, failures.getFirst().sequence());
+        assertEquals(new ScoreEvent.FinishMatch("Spain", "Brazil"), failures.getFirst().event());
+        assertEquals(String.format(ERR_GAME_NOT_FOUND, "Spain", "Brazil"), failures.getFirst().error().getMessage());
+        assertEquals(1, ingestor.getSnapshot().getMatches().getFirst().getHomeTeamPoints());
+        ingestor.close();
+    }
+
+    @Test
+    void givenAppliedBatch_whenReadingSnapshot_thenItReflectsTheBoard() {
+        SimpleScoreBoard board = new SimpleScoreBoard();
+        RingBufferIngestor ingestor = new RingBufferIngestor(board, failures::add);
+        SummarySnapshot initial = ingestor.getSnapshot();
+
+        ingestor.awaitApplied(ingestor.publish(new ScoreEvent.StartMatch("Mexico", "Canada")));
+
+        assertEquals(0, initial.getMatches().size());
+        assertEquals(1, ingestor.getSnapshot().getMatches().size());
+        assertTrue(ingestor.getSnapshot().getVersion() > initial.getVersion());
+        ingestor.close();
+    }
+
+    @Test
+    void givenClosedIngestor_whenPublishing_thenThrows() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), failures::add);
+        ingestor.startNewMatch("Mexico", "Canada");
+        ingestor.close();
+
+        assertEquals(1, ingestor.getAppliedCount());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> ingestor.startNewMatch("Spain", "Brazil"));
+        assertEquals(ERR_INGESTOR_CLOSED, exception.getMessage());
+    }
+
+    @Test
+    void givenInterruptedCaller_whenClosing_thenConsumerStillStopsAndInterruptIsKept() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), failures::add);
+        ingestor.startNewMatch("Mexico", "Canada");
+
+        Thread.currentThread().interrupt();
+        ingestor.close();
+
+        assertTrue(Thread.interrupted());
+        assertEquals(1, ingestor.getAppliedCount());
+    }
+
+    @Test
+    void givenNullEvent_whenPublishing_thenThrows() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), failures::add);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ingestor.publish(null));
+        assertEquals(ERR_NULL_EVENT, exception.getMessage());
+        ingestor.close();
+    }
+
+    @Test
+    void givenDeadConsumerAndFullRing_whenPublishing_thenThrows() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), 1, WaitStrategy.PARK, 1, failure -> {
+            throw new IllegalStateException("handler failed");
+        });
+        ingestor.finishMatch("Spain", "Brazil");
+        ingestor.finishMatch("Spain", "Brazil");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> ingestor.finishMatch("Spain", "Brazil"));
+        assertEquals(ERR_INGESTOR_CLOSED, exception.getMessage());
+        ingestor.close();
+    }
+
+    @Test
+    void givenDeadConsumer_whenAwaitingOrReadingSnapshot_thenThrows() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), 4, WaitStrategy.PARK, 4, failure -> {
+            throw new IllegalStateException("handler failed");
+        });
+        ingestor.startNewMatch("Mexico", "Canada");
+        ingestor.awaitApplied(ingestor.finishMatch("Spain", "Brazil"));
+        long unapplied = ingestor.updateScore("Mexico", "Canada", 1, 0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> ingestor.awaitApplied(unapplied));
+        assertEquals(ERR_INGESTOR_CLOSED, exception.getMessage());
+        exception = assertThrows(IllegalStateException.class, ingestor::getSnapshot);
+        assertEquals(ERR_INGESTOR_CLOSED, exception.getMessage());
+        ingestor.close();
+    }
+
+    @Test
+    void givenNoReader_whenApplyingBatches_thenSnapshotIsOnlyBuiltOnRequest() {
+        AtomicInteger snapshots = new AtomicInteger();
+        SimpleScoreBoard board = new SimpleScoreBoard() {
+            @Override
+            public SummarySnapshot getSnapshot() {
+                snapshots.incrementAndGet();
+                return super.getSnapshot();
+            }
+        };
+        RingBufferIngestor ingestor = new RingBufferIngestor(board, 64, WaitStrategy.YIELD, 4, failures::add);
+        ingestor.startNewMatch("Mexico", "Canada");
+        long last = 0;
+        for (int goal = 1; goal <= 100; goal++) {
+            last = ingestor.updateScore("Mexico", "Canada", goal, 0);
+        }
+        ingestor.awaitApplied(last);
+
+        assertEquals(1, snapshots.get());
+        SummarySnapshot snapshot = ingestor.getSnapshot();
+        assertEquals(100, snapshot.getMatches().getFirst().getHomeTeamPoints());
+        assertSame(snapshot, ingestor.getSnapshot());
+        assertEquals(2, snapshots.get());
+        ingestor.close();
+    }
+
+    @Test
+    void givenRunningIngestor_whenInspectingConsumer_thenItIsADaemonThread() {
+        RingBufferIngestor ingestor = new RingBufferIngestor(new SimpleScoreBoard(), failures::add);
+
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("scoreboard-ingestor"))
+                .allMatch(Thread::isDaemon));
+        ingestor.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "-2, 1", "3, 1", "8, 0"})
+    void givenInvalidSettings_whenCreating_thenThrows(int capacity, int maxBatchSize) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new RingBufferIngestor(new SimpleScoreBoard(), capacity, WaitStrategy.YIELD, maxBatchSize, failures::add));
+        assertEquals(ERR_INVALID_RING_SETTINGS, exception.getMessage());
+    }
+}
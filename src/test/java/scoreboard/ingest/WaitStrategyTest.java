@@ -0,0 +1,23 @@
+package scoreboard.ingest;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitStrategyTest {
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void givenLongIdleStreak_whenIdling_thenEveryBackOffStageReturnsQuickly(WaitStrategy waitStrategy) {
+        long start = System.nanoTime();
+
+        for (int attempt = 0; attempt < 300; attempt++) {
+            waitStrategy.idle(attempt);
+        }
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+}
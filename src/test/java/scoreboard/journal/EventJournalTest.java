@@ -0,0 +1,252 @@
+package scoreboard.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import scoreboard.ScoreEvent;
+import scoreboard.SimpleScoreBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.*;
+
+class EventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenAppendedEvents_whenReading_thenEventsComeBackInOrder() throws IOException {
+        List<ScoreEvent> events = List.of(
+                new ScoreEvent.StartMatch("Mexico", "Canada"),
+                new ScoreEvent.UpdateScore("Mexico", "Canada", 3, 1),
+                new ScoreEvent.StartMatch("Côte d'Ivoire", "Curaçao"),
+                new ScoreEvent.FinishMatch("Mexico", "Canada"));
+        try (EventJournal journal = EventJournal.open(directory)) {
+            events.forEach(journal::append);
+        }
+
+        assertEquals(events, readAll());
+    }
+
+    @Test
+    void givenSmallSegments_whenAppending_thenJournalRollsOverAndReplaysEverything() throws IOException {
+        try (EventJournal journal = EventJournal.open(directory, 128, 1)) {
+            for (int i = 0; i < 20; i++) {
+                journal.appendStart("Home" + i, "Away" + i);
+                journal.appendUpdate("Home" + i, "Away" + i, i, 0);
+            }
+        }
+
+        SimpleScoreBoard board = new SimpleScoreBoard();
+        assertTrue(segmentCount() > 1);
+        assertEquals(40, EventJournal.replay(directory, board));
+        assertEquals(20, board.getSummary().size());
+        assertEquals("Home19", board.getSummary().getFirst().getHomeTeam());
+    }
+
+    @Test
+    void givenFullLastSegment_whenReopening_thenAppendsGoToANewSegment() throws IOException {
+        try (EventJournal journal = EventJournal.open(directory, 64, 8)) {
+            journal.appendStart("Mexico", "Canada");
+            journal.appendUpdate("Mexico", "Canada", 1, 0);
+        }
+        try (EventJournal journal = EventJournal.open(directory, 64, 8)) {
+            journal.appendUpdate("Mexico", "Canada", 2, 0);
+        }
+
+        assertEquals(List.of(
+                new ScoreEvent.StartMatch("Mexico", "Canada"),
+                new ScoreEvent.UpdateScore("Mexico", "Canada", 1, 0),
+                new ScoreEvent.UpdateScore("Mexico", "Canada", 2, 0)), readAll());
+    }
+
+    @Test
+    void givenRemovedDirectory_whenRollingOver_thenThrows() throws IOException {
+        Path removed = directory.resolve("removed");
+        try (EventJournal journal = EventJournal.open(removed, 32, 1)) {
+            try (Stream<Path> files = Files.list(removed)) {
+                for (Path segment : files.toList()) {
+                    Files.delete(segment);
+                }
+            }
+            Files.delete(removed);
+            journal.appendStart("Mexico", "Canada");
+
+            assertThrows(UncheckedIOException.class, () -> journal.appendStart("Mexico", "Canada"));
+        }
+    }
+
+    @Test
+    void givenTornRecord_whenReopening_thenItsBytesAreClearedBeforeAppending() throws IOException {
+        try (EventJournal journal = EventJournal.open(directory, 1024, 1)) {
+            journal.appendStart("Mexico", "Canada");
+        }
+        Path segment = singleSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(Integer.BYTES + 30).putInt(30).put("X".repeat(30).getBytes());
+            channel.write(torn.flip(), EventJournal.HEADER_SIZE + 22);
+        }
+
+        try (EventJournal journal = EventJournal.open(directory, 1024, 1)) {
+            journal.appendFinish("Mexico", "Canada");
+        }
+
+        assertEquals(List.of(
+                new ScoreEvent.StartMatch("Mexico", "Canada"),
+                new ScoreEvent.FinishMatch("Mexico", "Canada")), readAll());
+    }
+
+    @Test
+    void givenCancelledRecords_whenReadingAndReopening_thenTheyAreSkipped() throws IOException {
+        try (EventJournal journal = EventJournal.open(directory, 1024, 8)) {
+            EventJournal.Position flushed = journal.write(new ScoreEvent.StartMatch("Mexico", "Canada"));
+            journal.flush();
+            EventJournal.Position pending = journal.write(new ScoreEvent.UpdateScore("Mexico", "Canada", 1, 0));
+            journal.cancel(flushed);
+            journal.cancel(pending);
+            journal.appendStart("Spain", "Brazil");
+        }
+        try (EventJournal journal = EventJournal.open(directory, 1024, 8)) {
+            journal.appendUpdate("Spain", "Brazil", 0, 1);
+        }
+
+        assertEquals(List.of(
+                new ScoreEvent.StartMatch("Spain", "Brazil"),
+                new ScoreEvent.UpdateScore("Spain", "Brazil", 0, 1)), readAll());
+    }
+
+    @Test
+    void givenMoreEventsThanOneReplayBatch_whenReplaying_thenEveryEventIsApplied() throws IOException {
+        try (EventJournal journal = EventJournal.open(directory)) {
+            journal.appendStart("Mexico", "Canada");
+            for (int goals = 1; goals < 5_000; goals++) {
+                journal.appendUpdate("Mexico", "Canada", goals, 0);
+            }
+        }
+
+        SimpleScoreBoard board = new SimpleScoreBoard();
+        assertEquals(5_000, EventJournal.replay(directory, board));
+        assertEquals(4_999, board.getSummary().getFirst().getHomeTeamPoints());
+    }
+
+    @Test
+    void givenMissingDirectory_whenReplaying_thenNothingIsApplied() throws IOException {
+        assertEquals(0, EventJournal.replay(directory.resolve("missing"), new SimpleScoreBoard()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"4, 1", "0, 1", "1024, 0"})
+    void givenInvalidSettings_whenOpening_thenThrows(int segmentSize, int flushInterval) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EventJournal.open(directory, segmentSize, flushInterval));
+        assertEquals(ERR_INVALID_JOURNAL_SETTINGS, exception.getMessage());
+    }
+
+    @Test
+    void givenRecordLargerThanSegment_whenAppending_thenThrows() throws IOException {
+        try (EventJournal journal = EventJournal.open(directory, 32, 1)) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> journal.appendStart("A very long team name", "Another very long team name"));
+            assertEquals(ERR_JOURNAL_RECORD_TOO_LARGE, exception.getMessage());
+        }
+    }
+
+    @Test
+    void givenClosedJournal_whenFlushing_thenThrows() throws IOException {
+        EventJournal journal = EventJournal.open(directory);
+        journal.close();
+        journal.close();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, journal::flush);
+        assertEquals(ERR_JOURNAL_CLOSED, exception.getMessage());
+    }
+
+    @Test
+    void givenUnrelatedFiles_whenReplaying_thenTheyAreIgnored() throws IOException {
+        Files.writeString(directory.resolve("notes.txt"), "not a segment");
+        Files.writeString(directory.resolve("segment-notes.txt"), "not a segment either");
+
+        assertEquals(0, EventJournal.replay(directory, new SimpleScoreBoard()));
+    }
+
+    @Test
+    void givenSegmentWithoutMagic_whenReplaying_thenThrows() throws IOException {
+        Path segment = directory.resolve("segment-00000000000000000000.journal");
+        Files.write(segment, new byte[]{1, 2});
+
+        assertCorrupt(segment);
+    }
+
+    @Test
+    void givenUnknownRecordType_whenReplaying_thenThrows() throws IOException {
+        assertCorrupt(writeSegment(ByteBuffer.allocate(32).put((byte) 9).putInt(1).put((byte) 'A').putInt(1).put((byte) 'B')));
+    }
+
+    @Test
+    void givenTruncatedRecord_whenReplaying_thenThrows() throws IOException {
+        assertCorrupt(writeSegment(ByteBuffer.allocate(7).put(EventJournal.START).putInt(1).put((byte) 'A').put((byte) 0)));
+    }
+
+    @Test
+    void givenInvalidNameLength_whenReplaying_thenThrows() throws IOException {
+        assertCorrupt(writeSegment(ByteBuffer.allocate(16).put(EventJournal.FINISH).putInt(100)));
+    }
+
+    @Test
+    void givenNegativeNameLength_whenReplaying_thenThrows() throws IOException {
+        assertCorrupt(writeSegment(ByteBuffer.allocate(16).put(EventJournal.FINISH).putInt(-1)));
+    }
+
+    private Path writeSegment(ByteBuffer records) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(EventJournal.HEADER_SIZE + records.capacity());
+        content.putInt(EventJournal.MAGIC).put(records.array());
+        Path segment = directory.resolve("segment-00000000000000000000.journal");
+        Files.write(segment, content.array());
+        return segment;
+    }
+
+    private void assertCorrupt(Path segment) {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> EventJournal.replay(directory, new SimpleScoreBoard()));
+        assertEquals(String.format(ERR_CORRUPT_JOURNAL, segment.getFileName()), exception.getMessage());
+    }
+
+    private List<ScoreEvent> readAll() throws IOException {
+        List<ScoreEvent> events = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path segment : files.sorted().toList()) {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+                buffer.position(EventJournal.HEADER_SIZE);
+                ScoreEvent event;
+                while ((event = EventJournal.read(buffer, segment)) != null) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    private Path singleSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
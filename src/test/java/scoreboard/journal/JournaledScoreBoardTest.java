@@ -0,0 +1,285 @@
+package scoreboard.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import scoreboard.BatchResult;
+import scoreboard.ConcurrentScoreBoard;
+import scoreboard.Match;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreBoardTest;
+import scoreboard.ScoreEvent;
+import scoreboard.SimpleScoreBoard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.ERR_JOURNAL_CLOSED;
+
+class JournaledScoreBoardTest extends ScoreBoardTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<JournaledScoreBoard> openBoards = new ArrayList<>();
+
+    @Override
+    protected ScoreBoard createScoreBoard() {
+        return createScoreBoard(new SimpleScoreBoard());
+    }
+
+    @Override
+    protected ScoreBoard createScoreBoard(Executor eventExecutor) {
+        return createScoreBoard(new SimpleScoreBoard(eventExecutor));
+    }
+
+    @AfterEach
+    void closeBoards() {
+        openBoards.forEach(JournaledScoreBoard::close);
+    }
+
+    @Test
+    void givenJournaledChanges_whenReopening_thenBoardIsRebuilt() throws IOException {
+        Path journal = directory.resolve("replay");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.startNewMatch("Mexico", "Canada");
+            board.startNewMatch("Spain", "Brazil");
+            board.updateScore("Mexico", "Canada", 0, 5);
+            board.updateScore("Spain", "Brazil", 10, 2);
+            board.startNewMatch("Germany", "France");
+            board.finishMatch("Germany", "France");
+        }
+
+        try (JournaledScoreBoard restored = JournaledScoreBoard.open(new ConcurrentScoreBoard(), journal)) {
+            assertSummary(restored.getSummary(), "Spain", 10, 2, "Mexico", 0, 5);
+        }
+    }
+
+    @Test
+    void givenReopenedJournal_whenAppending_thenNewChangesFollowTheReplayedOnes() throws IOException {
+        Path journal = directory.resolve("reopen");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.startNewMatch("Mexico", "Canada");
+        }
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.updateScore("Mexico", "Canada", 1, 1);
+            board.flush();
+        }
+
+        SimpleScoreBoard restored = new SimpleScoreBoard();
+        assertEquals(2, EventJournal.replay(journal, restored));
+        assertSummary(restored.getSummary(), "Mexico", 1, 1);
+    }
+
+    @Test
+    void givenBatchWithRejectedEvents_whenApplying_thenOnlyAcceptedEventsAreJournaled() throws IOException {
+        Path journal = directory.resolve("batch");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            BatchResult result = board.applyBatch(List.of(
+                    new ScoreEvent.StartMatch("Mexico", "Canada"),
+                    new ScoreEvent.UpdateScore("Spain", "Brazil", 1, 0),
+                    new ScoreEvent.UpdateScore("Mexico", "Canada", 2, 0),
+                    new ScoreEvent.StartMatch("Mexico", "")));
+            assertEquals(2, result.appliedCount());
+        }
+
+        SimpleScoreBoard restored = new SimpleScoreBoard();
+        assertEquals(2, EventJournal.replay(journal, restored));
+        assertSummary(restored.getSummary(), "Mexico", 2, 0);
+    }
+
+    @Test
+    void givenIncrementsAndCompareAndSet_whenReopening_thenResultingScoresAreReplayed() throws IOException {
+        Path journal = directory.resolve("increments");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.startNewMatch("Mexico", "Canada");
+            board.incrementHomeGoal("Mexico", "Canada");
+            board.incrementAwayGoal("Mexico", "Canada");
+            board.incrementHomeGoal("Mexico", "Canada");
+            assertFalse(board.compareAndSetScore("Mexico", "Canada", 0, 0, 5, 0));
+            assertTrue(board.compareAndSetScore("Mexico", "Canada", 2, 1, 2, 2));
+        }
+
+        SimpleScoreBoard restored = new SimpleScoreBoard();
+        assertEquals(5, EventJournal.replay(journal, restored));
+        assertSummary(restored.getSummary(), "Mexico", 2, 2);
+    }
+
+    @Test
+    void givenRejectedChange_whenApplying_thenNothingIsJournaled() throws IOException {
+        Path journal = directory.resolve("rejected");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            assertThrows(IllegalArgumentException.class, () -> board.finishMatch("Mexico", "Canada"));
+        }
+
+        assertEquals(0, EventJournal.replay(journal, new SimpleScoreBoard()));
+    }
+
+    @Test
+    void givenFailingAppend_whenChanging_thenBoardIsLeftUnchanged() throws IOException {
+        Path removed = directory.resolve("removed");
+        JournaledScoreBoard board = new JournaledScoreBoard(new SimpleScoreBoard(), EventJournal.open(removed, 64, 1));
+        openBoards.add(board);
+        board.startNewMatch("Mexico", "Canada");
+        removeDirectory(removed);
+
+        assertThrows(UncheckedIOException.class, () -> board.applyBatch(List.of(
+                new ScoreEvent.FinishMatch("Mexico", "Canada"),
+                new ScoreEvent.StartMatch("Germany", "France"))));
+        assertThrows(UncheckedIOException.class, () -> board.startNewMatch("Germany", "France"));
+        assertThrows(UncheckedIOException.class, () -> board.compareAndSetScore("Mexico", "Canada", 0, 0, 1, 0));
+
+        assertSummary(board.getSummary(), "Mexico", 0, 0);
+    }
+
+    @Test
+    void givenStaleExpectedScore_whenComparingAndSetting_thenNothingIsWritten() throws IOException {
+        Path removed = directory.resolve("stale");
+        JournaledScoreBoard board = new JournaledScoreBoard(new SimpleScoreBoard(), EventJournal.open(removed, 64, 1));
+        openBoards.add(board);
+        board.startNewMatch("Mexico", "Canada");
+        removeDirectory(removed);
+
+        assertFalse(board.compareAndSetScore("Mexico", "Canada", 1, 0, 2, 0));
+        assertFalse(board.compareAndSetScore("Mexico", "Canada", 0, 1, 2, 0));
+        assertSummary(board.getSummary(), "Mexico", 0, 0);
+    }
+
+    @Test
+    void givenConcurrentWriters_whenReopening_thenEveryAcceptedChangeIsReplayed() throws Exception {
+        Path journal = directory.resolve("concurrent");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new ConcurrentScoreBoard(), journal)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int first = writer * 50;
+                writers.add(Thread.ofPlatform().start(() -> {
+                    for (int i = first; i < first + 50; i++) {
+                        board.startNewMatch("Home" + i, "Away" + i);
+                        board.incrementHomeGoal("Home" + i, "Away" + i);
+                        board.incrementAwayGoal("Home" + i, "Away" + i);
+                        if (i % 2 == 0) {
+                            board.finishMatch("Home" + i, "Away" + i);
+                        }
+                    }
+                }));
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        SimpleScoreBoard restored = new SimpleScoreBoard();
+        assertEquals(700, EventJournal.replay(journal, restored));
+        assertEquals(100, restored.getSummary().size());
+        assertTrue(restored.getSummary().stream().allMatch(match -> match.getHomeTeamPoints() == 1 && match.getAwayTeamPoints() == 1));
+    }
+
+    @Test
+    void givenRestoredCheckpoint_whenReopening_thenRestoredMatchesAreReplayed() throws IOException {
+        SimpleScoreBoard source = new SimpleScoreBoard();
+        source.startNewMatch("Mexico", "Canada");
+        source.startNewMatch("Spain", "Brazil");
+        source.updateScore("Mexico", "Canada", 2, 1);
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        source.writeCheckpoint(Channels.newChannel(checkpoint));
+
+        Path journal = directory.resolve("restore");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint.toByteArray())));
+        }
+
+        try (JournaledScoreBoard reopened = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            assertSummary(reopened.getSummary(), "Mexico", 2, 1, "Spain", 0, 0);
+        }
+    }
+
+    @Test
+    void givenCheckpointWithTiedMatches_whenRestoredAndReopened_thenTheirOrderIsKept() throws IOException {
+        SimpleScoreBoard source = new SimpleScoreBoard();
+        source.startNewMatch("Mexico", "Canada");
+        source.startNewMatch("Spain", "Brazil");
+        source.startNewMatch("Germany", "France");
+        source.updateScore("Spain", "Brazil", 1, 1);
+        source.updateScore("Mexico", "Canada", 2, 0);
+
+        Path journal = directory.resolve("tied");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.restore(checkpointOf(source));
+        }
+
+        try (JournaledScoreBoard reopened = JournaledScoreBoard.open(new ConcurrentScoreBoard(), journal)) {
+            assertSummary(reopened.getSummary(), "Spain", 1, 1, "Mexico", 2, 0, "Germany", 0, 0);
+        }
+    }
+
+    @Test
+    void givenRejectedRestore_whenReopening_thenRestoredMatchesAreNotReplayed() throws IOException {
+        SimpleScoreBoard source = new SimpleScoreBoard();
+        source.startNewMatch("Spain", "Brazil");
+
+        Path journal = directory.resolve("rejected-restore");
+        try (JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            board.startNewMatch("Mexico", "Canada");
+            assertThrows(IllegalStateException.class, () -> board.restore(checkpointOf(source)));
+        }
+
+        try (JournaledScoreBoard reopened = JournaledScoreBoard.open(new SimpleScoreBoard(), journal)) {
+            assertSummary(reopened.getSummary(), "Mexico", 0, 0);
+        }
+    }
+
+    @Test
+    void givenClosedBoard_whenChanging_thenThrows() throws IOException {
+        JournaledScoreBoard board = JournaledScoreBoard.open(new SimpleScoreBoard(), directory.resolve("closed"));
+        board.close();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> board.startNewMatch("Mexico", "Canada"));
+        assertEquals(ERR_JOURNAL_CLOSED, exception.getMessage());
+    }
+
+    private ScoreBoard createScoreBoard(ScoreBoard board) {
+        try {
+            JournaledScoreBoard journaled = JournaledScoreBoard.open(board, directory.resolve("board-" + openBoards.size()));
+            openBoards.add(journaled);
+            return journaled;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ReadableByteChannel checkpointOf(ScoreBoard board) throws IOException {
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        board.writeCheckpoint(Channels.newChannel(checkpoint));
+        return Channels.newChannel(new ByteArrayInputStream(checkpoint.toByteArray()));
+    }
+
+    private static void removeDirectory(Path removed) throws IOException {
+        try (Stream<Path> files = Files.list(removed)) {
+            for (Path segment : files.toList()) {
+                Files.delete(segment);
+            }
+        }
+        Files.delete(removed);
+    }
+
+    private static void assertSummary(List<Match> summary, Object... expected) {
+        assertEquals(expected.length / 3, summary.size());
+        for (int i = 0; i < summary.size(); i++) {
+            Match match = summary.get(i);
+            assertEquals(expected[3 * i], match.getHomeTeam());
+            assertEquals(expected[3 * i + 1], match.getHomeTeamPoints());
+            assertEquals(expected[3 * i + 2], match.getAwayTeamPoints());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package scoreboard.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import scoreboard.ConcurrentScoreBoard;
+import scoreboard.Match;
+import scoreboard.metrics.InstrumentedScoreBoard;
+import scoreboard.metrics.LatencySnapshot;
+import scoreboard.metrics.MetricsSnapshot;
+import scoreboard.metrics.Operation;
+import scoreboard.metrics.Rejection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulates whole tournaments against a {@link ConcurrentScoreBoard}: writer virtual threads start,
+ * score and finish randomly drawn fixtures while reader virtual threads poll the summary. Invariants
+ * are checked while the load runs, among them the full summary order including the most recently
+ * started tie-break, and the board's own instrumentation supplies the throughput and latency report.
+ * <p>
+ * Runs only in the {@code load} Maven profile ({@code mvn -Pload test}). The scale is set with the
+ * system properties {@code load.teams}, {@code load.writers}, {@code load.readers},
+ * {@code load.seconds} and {@code load.seed}.
+ */
+@Tag("load")
+class TournamentLoadTest {
+
+    private static final int TEAMS = Integer.getInteger("load.teams", 4096);
+    private static final int WRITERS = Integer.getInteger("load.writers", 256);
+    private static final int READERS = Integer.getInteger("load.readers", 8);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+    private static final long SEED = Long.getLong("load.seed", 2026);
+    private static final int YIELD_INTERVAL = 64;
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+
+    private final InstrumentedScoreBoard board = new InstrumentedScoreBoard(new ConcurrentScoreBoard());
+    private final Map<String, LiveMatch> liveByHomeTeam = new ConcurrentHashMap<>();
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private final LongAdder verifiedMatches = new LongAdder();
+    private final LongAdder summaryReads = new LongAdder();
+    private final String[] teams = new String[TEAMS];
+
+    @Test
+    void givenSimulatedTournaments_whenRunningUnderLoad_thenInvariantsHoldAndReportIsPrinted() throws Exception {
+        for (int i = 0; i < TEAMS; i++) {
+            teams[i] = "Team" + i;
+        }
+
+        long started = System.nanoTime();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                SplittableRandom random = new SplittableRandom(SEED + i);
+                tasks.add(threads.submit(() -> write(random)));
+            }
+            for (int i = 0; i < READERS; i++) {
+                tasks.add(threads.submit(this::read));
+            }
+            TimeUnit.SECONDS.sleep(SECONDS);
+            running.set(false);
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        for (LiveMatch match : List.copyOf(liveByHomeTeam.values())) {
+            finish(match);
+        }
+        checkSummary(board.getSummary());
+
+        report(board.getMetrics(), elapsedNanos);
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+        assertTrue(board.getSummary().isEmpty(), "board must be empty after every match was finished");
+    }
+
+    private void write(SplittableRandom random) {
+        for (int operation = 1; running.get(); operation++) {
+            int action = random.nextInt(100);
+            if (action < 15) {
+                start(random);
+            } else if (action < 25) {
+                LiveMatch match = liveByHomeTeam.get(teams[random.nextInt(TEAMS)]);
+                if (match != null && match.finishing.compareAndSet(false, true)) {
+                    finish(match);
+                }
+            } else {
+                score(random);
+            }
+            if (operation % YIELD_INTERVAL == 0) {
+                Thread.yield();
+            }
+        }
+    }
+
+    private void start(SplittableRandom random) {
+        String home = teams[random.nextInt(TEAMS)];
+        String away = teams[random.nextInt(TEAMS)];
+        try {
+            board.startNewMatch(home, away);
+        } catch (IllegalArgumentException | IllegalStateException rejected) {
+            return;
+        }
+        if (liveByHomeTeam.putIfAbsent(home, new LiveMatch(home, away)) != null) {
+            violation("Team " + home + " was allowed to start a second match");
+        }
+    }
+
+    /**
+     * Scores a goal with an increment or a compare-and-set retry. The goal is counted only once the
+     * board accepted it; the in-flight counter lets a finisher wait for every counted goal.
+     */
+    private void score(SplittableRandom random) {
+        LiveMatch match = liveByHomeTeam.get(teams[random.nextInt(TEAMS)]);
+        if (match == null) {
+            return;
+        }
+        match.inFlight.incrementAndGet();
+        try {
+            if (match.finishing.get()) {
+                return;
+            }
+            int kind = random.nextInt(3);
+            if (kind == 0) {
+                board.incrementHomeGoal(match.home, match.away);
+                match.homeGoals.increment();
+            } else if (kind == 1) {
+                board.incrementAwayGoal(match.home, match.away);
+                match.awayGoals.increment();
+            } else {
+                Match current;
+                do {
+                    current = board.findMatchByTeam(match.home).orElseThrow();
+                } while (!board.compareAndSetScore(match.home, match.away, current.getHomeTeamPoints(),
+                        current.getAwayTeamPoints(), current.getHomeTeamPoints(), current.getAwayTeamPoints() + 1));
+                match.awayGoals.increment();
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            violation("Goal for ongoing match " + match + " was rejected: " + e.getMessage());
+        } finally {
+            match.inFlight.decrementAndGet();
+        }
+    }
+
+    private void finish(LiveMatch match) {
+        match.finishing.set(true);
+        while (match.inFlight.get() != 0) {
+            Thread.yield();
+        }
+        Match onBoard = board.findMatchByTeam(match.home).orElse(null);
+        if (onBoard == null || !onBoard.getAwayTeam().equals(match.away)) {
+            violation("Match " + match + " disappeared from the board");
+            return;
+        }
+        if (onBoard.getHomeTeamPoints() != match.homeGoals.sum() || onBoard.getAwayTeamPoints() != match.awayGoals.sum()) {
+            violation("Lost update in " + match + ": board has " + onBoard.getHomeTeamPoints() + "-"
+                    + onBoard.getAwayTeamPoints() + ", feeds scored " + match.homeGoals.sum() + "-" + match.awayGoals.sum());
+        }
+        liveByHomeTeam.remove(match.home, match);
+        board.finishMatch(match.home, match.away);
+        verifiedMatches.increment();
+    }
+
+    private void read() {
+        long lastVersion = -1;
+        while (running.get()) {
+            long version = board.getVersion();
+            checkSummary(board.getSummary());
+            if (version < lastVersion) {
+                violation("Board version went back from " + lastVersion + " to " + version);
+            }
+            lastVersion = version;
+            summaryReads.increment();
+            Thread.yield();
+        }
+    }
+
+    private void checkSummary(List<Match> summary) {
+        Set<String> playing = new HashSet<>();
+        Match previous = null;
+        for (Match match : summary) {
+            if (!playing.add(match.getHomeTeam()) || !playing.add(match.getAwayTeam())) {
+                violation("Team of " + match.getHomeTeam() + " vs " + match.getAwayTeam() + " plays twice in one summary");
+            }
+            if (previous != null && Match.SUMMARY_ORDER.compare(previous, match) > 0) {
+                violation("Summary order broken between " + previous.getHomeTeam() + " and " + match.getHomeTeam());
+            }
+            previous = match;
+        }
+    }
+
+    private void violation(String message) {
+        if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+            violations.add(message);
+        }
+    }
+
+    private void report(MetricsSnapshot metrics, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Tournament load: %d teams, %d writers, %d readers, %.1f s, seed %d%n",
+                TEAMS, WRITERS, READERS, seconds, SEED));
+        report.append(String.format("%-22s %12s %12s %10s %10s %10s %10s%n",
+                "operation", "count", "ops/s", "p50 ns", "p99 ns", "p999 ns", "max ns"));
+        for (Operation operation : Operation.values()) {
+            LatencySnapshot latency = metrics.latencies().get(operation);
+            if (latency.count() > 0) {
+                report.append(String.format("%-22s %12d %12.0f %10d %10d %10d %10d%n", operation, latency.count(),
+                        latency.count() / seconds, latency.p50Nanos(), latency.p99Nanos(), latency.p999Nanos(), latency.maxNanos()));
+            }
+        }
+        for (Rejection rejection : Rejection.values()) {
+            if (metrics.rejections(rejection) > 0) {
+                report.append(String.format("rejected %-13s %12d%n", rejection, metrics.rejections(rejection)));
+            }
+        }
+        report.append(String.format("verified matches %d, summary reads %d, violations %d%n",
+                verifiedMatches.sum(), summaryReads.sum(), violations.size()));
+        System.out.print(report);
+    }
+
+    private static final class LiveMatch {
+
+        private final String home;
+        private final String away;
+        private final LongAdder homeGoals = new LongAdder();
+        private final LongAdder awayGoals = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean finishing = new AtomicBoolean();
+
+        private LiveMatch(String home, String away) {
+            this.home = home;
+            this.away = away;
+        }
+
+        @Override
+        public String toString() {
+            return home + " vs " + away;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+import scoreboard.ScoreBoard;
+import scoreboard.ScoreBoardTest;
+import scoreboard.ScoreEvent;
+import scoreboard.SimpleScoreBoard;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedScoreBoardTest extends ScoreBoardTest {
+
+    @Override
+    protected ScoreBoard createScoreBoard() {
+        return new InstrumentedScoreBoard(new SimpleScoreBoard());
+    }
+
+    @Override
+    protected ScoreBoard createScoreBoard(Executor eventExecutor) {
+        return new InstrumentedScoreBoard(new SimpleScoreBoard(eventExecutor));
+    }
+
+    @Test
+    void givenOperations_whenReadingMetrics_thenEveryCallIsCountedAndTimed() throws IOException {
+        InstrumentedScoreBoard board = new InstrumentedScoreBoard(new SimpleScoreBoard());
+        board.startNewMatch("Mexico", "Canada");
+        board.updateScore("Mexico", "Canada", 1, 0);
+        board.updateScore("Mexico", "Canada", 2, 0);
+        board.incrementHomeGoal("Mexico", "Canada");
+        board.incrementAwayGoal("Mexico", "Canada");
+        board.compareAndSetScore("Mexico", "Canada", 3, 1, 2, 0);
+        board.getSummary();
+        board.getSnapshot();
+        board.getSummaryDelta(0);
+        board.getSummaryPage(0, 1);
+        board.getTopMatches(1);
+        board.renderSummary();
+        board.findMatchByTeam("Mexico");
+        board.applyBatch(List.of(new ScoreEvent.UpdateScore("Mexico", "Canada", 3, 0)));
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        board.writeCheckpoint(Channels.newChannel(checkpoint));
+        board.finishMatch("Mexico", "Canada");
+        board.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint.toByteArray())));
+
+        MetricsSnapshot metrics = board.getMetrics();
+
+        for (Operation operation : Operation.values()) {
+            long expected = operation == Operation.UPDATE_SCORE ? 2 : 1;
+            assertEquals(expected, metrics.count(operation), operation.name());
+        }
+        assertTrue(metrics.latencies().get(Operation.UPDATE_SCORE).maxNanos() > 0);
+        assertEquals(1, metrics.boardSize());
+        assertEquals(board.getVersion(), metrics.boardVersion());
+    }
+
+    @Test
+    void givenRejectedCalls_whenReadingMetrics_thenRejectionsAreCountedByReason() throws IOException {
+        InstrumentedScoreBoard board = new InstrumentedScoreBoard(new SimpleScoreBoard());
+        board.startNewMatch("Mexico", "Canada");
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        board.writeCheckpoint(Channels.newChannel(checkpoint));
+
+        assertThrows(IllegalArgumentException.class, () -> board.startNewMatch("Mexico", "Canada"));
+        assertThrows(IllegalStateException.class, () -> board.startNewMatch("Mexico", "Brazil"));
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore("Spain", "Brazil", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore("Mexico", "Canada", -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.incrementHomeGoal("Spain", "Brazil"));
+        assertThrows(IllegalArgumentException.class, () -> board.incrementAwayGoal("Spain", "Brazil"));
+        assertThrows(IllegalArgumentException.class, () -> board.compareAndSetScore("Mexico", "Canada", 0, 0, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> board.finishMatch("Spain", "Brazil"));
+        assertThrows(IllegalArgumentException.class, () -> board.getSummaryPage(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> board.getTopMatches(-1));
+        assertThrows(IllegalArgumentException.class, () -> board.findMatchByTeam(""));
+        assertThrows(IllegalStateException.class, () -> board.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint.toByteArray()))));
+        board.applyBatch(List.of(new ScoreEvent.StartMatch("Mexico", "Mexico")));
+
+        MetricsSnapshot metrics = board.getMetrics();
+
+        assertEquals(1, metrics.rejections(Rejection.GAME_EXISTS));
+        assertEquals(1, metrics.rejections(Rejection.TEAMS_PLAYING));
+        assertEquals(4, metrics.rejections(Rejection.GAME_NOT_FOUND));
+        assertEquals(2, metrics.rejections(Rejection.NEGATIVE_SCORE));
+        assertEquals(1, metrics.rejections(Rejection.NEGATIVE_OFFSET));
+        assertEquals(1, metrics.rejections(Rejection.NEGATIVE_LIMIT));
+        assertEquals(1, metrics.rejections(Rejection.INVALID_NAMES));
+        assertEquals(1, metrics.rejections(Rejection.SAME_TEAMS));
+        assertEquals(1, metrics.rejections(Rejection.OTHER));
+        assertEquals(3, metrics.count(Operation.START_NEW_MATCH));
+    }
+
+    @Test
+    void givenRegisteredMBean_whenReadingAttributes_thenTheyReflectTheBoard() throws Exception {
+        InstrumentedScoreBoard board = new InstrumentedScoreBoard(new SimpleScoreBoard());
+        board.startNewMatch("Mexico", "Canada");
+        board.updateScore("Mexico", "Canada", 1, 0);
+        assertThrows(IllegalArgumentException.class, () -> board.finishMatch("Spain", "Brazil"));
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+        ObjectName name = board.registerMBean(server, "world-cup");
+
+        assertEquals("world-cup", ObjectName.unquote(name.getKeyProperty("name")));
+        assertEquals(1, server.getAttribute(name, "BoardSize"));
+        assertEquals(board.getVersion(), server.getAttribute(name, "BoardVersion"));
+        ScoreBoardMetrics metrics = new ScoreBoardMetrics(board);
+        Map<String, Long> counts = metrics.getOperationCounts();
+        assertEquals(1, (long) counts.get("UPDATE_SCORE"));
+        assertEquals(1, (long) metrics.getRejectionCounts().get("GAME_NOT_FOUND"));
+        assertTrue(metrics.getLatencyNanos().get("UPDATE_SCORE.max") > 0);
+        assertTrue(metrics.getLatencyNanos().containsKey("GET_SUMMARY.p999"));
+        assertNotNull(server.getAttribute(name, "OperationCounts"));
+        assertEquals(0, (long) metrics.getOperationCounts().get("GET_SNAPSHOT"));
+    }
+}
@@ -0,0 +1,69 @@
+package scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 31, 32, 33, 100, 1_000, 123_456, 10_000_000_000L, Long.MAX_VALUE})
+    void givenValue_whenBucketing_thenBucketCoversItWithinOneSixteenth(long value) {
+        int index = LatencyHistogram.indexOf(value);
+        long highest = LatencyHistogram.highestValueOf(index);
+
+        assertTrue(highest >= value);
+        assertTrue(highest - value <= value / 16, value + " reported as " + highest);
+        if (index > 0) {
+            assertTrue(LatencyHistogram.highestValueOf(index - 1) < value);
+        }
+    }
+
+    @Test
+    void givenRecordedValues_whenTakingSnapshot_thenPercentilesFollowTheDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1_000, snapshot.count());
+        assertEquals(500_500, snapshot.meanNanos());
+        assertWithin(500_000, snapshot.p50Nanos());
+        assertWithin(900_000, snapshot.p90Nanos());
+        assertWithin(990_000, snapshot.p99Nanos());
+        assertWithin(999_000, snapshot.p999Nanos());
+        assertEquals(1_000_000, snapshot.maxNanos());
+    }
+
+    @Test
+    void givenSingleValue_whenTakingSnapshot_thenPercentilesAreCappedAtTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1_000, snapshot.p50Nanos());
+        assertEquals(1_000, snapshot.p999Nanos());
+    }
+
+    @Test
+    void givenNegativeValue_whenRecording_thenItCountsAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(new LatencySnapshot(1, 0, 0, 0, 0, 0, 0), histogram.snapshot());
+    }
+
+    @Test
+    void givenNoValues_whenTakingSnapshot_thenSnapshotIsEmpty() {
+        assertEquals(LatencySnapshot.EMPTY, new LatencyHistogram().snapshot());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,37 @@
+package scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import scoreboard.RejectedArgumentException;
+import scoreboard.RejectedStateException;
+import scoreboard.RejectionReason;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static scoreboard.Constants.*;
+
+class RejectionTest {
+
+    @ParameterizedTest
+    @EnumSource(RejectionReason.class)
+    void givenRejectedArgument_whenClassifying_thenItsReasonIsReturned(RejectionReason reason) {
+        assertEquals(reason.name(), Rejection.classify(new RejectedArgumentException(reason, "any message")).name());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RejectionReason.class)
+    void givenRejectedState_whenClassifying_thenItsReasonIsReturned(RejectionReason reason) {
+        assertEquals(reason.name(), Rejection.classify(new RejectedStateException(reason, null)).name());
+    }
+
+    @Test
+    void givenPlainErrorWithRejectionMessage_whenClassifying_thenItIsOther() {
+        assertEquals(Rejection.OTHER, Rejection.classify(new IllegalArgumentException(ERR_SAME_TEAMS)));
+        assertEquals(Rejection.OTHER, Rejection.classify(new IllegalStateException(ERR_RESTORE_INTO_NON_EMPTY_BOARD)));
+    }
+
+    @Test
+    void givenErrorWithoutMessage_whenClassifying_thenItIsOther() {
+        assertEquals(Rejection.OTHER, Rejection.classify(new IllegalStateException()));
+    }
+}
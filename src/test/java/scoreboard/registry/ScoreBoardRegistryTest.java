@@ -0,0 +1,227 @@
+package scoreboard.registry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import scoreboard.BatchResult;
+import scoreboard.Match;
+import scoreboard.ScoreEvent;
+import scoreboard.SimpleScoreBoard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scoreboard.Constants.*;
+
+class ScoreBoardRegistryTest {
+
+    private static final String WORLD_CUP = "world-cup";
+    private static final String QUALIFIERS = "qualifiers";
+
+    private ScoreBoardRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ScoreBoardRegistry(4);
+        registry.createBoard(WORLD_CUP).join();
+        registry.createBoard(QUALIFIERS).join();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void givenTournaments_whenChangingMatches_thenEachBoardIsIndependent() {
+        registry.startNewMatch(WORLD_CUP, "Mexico", "Canada").join();
+        registry.updateScore(WORLD_CUP, "Mexico", "Canada", 1, 0).join();
+        registry.startNewMatch(QUALIFIERS, "Mexico", "Canada").join();
+        registry.startNewMatch(QUALIFIERS, "Spain", "Brazil").join();
+        registry.finishMatch(QUALIFIERS, "Mexico", "Canada").join();
+
+        List<Match> worldCup = registry.getSummary(WORLD_CUP).join();
+        List<Match> qualifiers = registry.getSummary(QUALIFIERS).join();
+        assertEquals(1, worldCup.size());
+        assertEquals(1, worldCup.getFirst().getHomeTeamPoints());
+        assertEquals(1, qualifiers.size());
+        assertEquals("Spain", qualifiers.getFirst().getHomeTeam());
+    }
+
+    @Test
+    void givenBatch_whenApplying_thenItRunsOnTheTournamentBoard() {
+        BatchResult result = registry.applyBatch(WORLD_CUP, List.of(
+                new ScoreEvent.StartMatch("Mexico", "Canada"),
+                new ScoreEvent.UpdateScore("Spain", "Brazil", 1, 0))).join();
+
+        assertEquals(1, result.appliedCount());
+        int size = registry.execute(WORLD_CUP, board -> board.getSummary().size()).join();
+        assertEquals(1, size);
+    }
+
+    @Test
+    void givenRejectedChange_whenWaiting_thenFutureFailsWithTheBoardError() {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> registry.finishMatch(WORLD_CUP, "Mexico", "Canada").join());
+
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(String.format(ERR_GAME_NOT_FOUND, "Mexico", "Canada"), exception.getCause().getMessage());
+    }
+
+    @Test
+    void givenExistingTournament_whenCreatingAgain_thenFutureFails() {
+        CompletionException exception = assertThrows(CompletionException.class, () -> registry.createBoard(WORLD_CUP).join());
+
+        assertEquals(String.format(ERR_TOURNAMENT_EXISTS, WORLD_CUP), exception.getCause().getMessage());
+    }
+
+    @Test
+    void givenRemovedTournament_whenUsingIt_thenFutureFails() {
+        registry.removeBoard(WORLD_CUP).join();
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> registry.getSummary(WORLD_CUP).join());
+        assertEquals(String.format(ERR_TOURNAMENT_NOT_FOUND, WORLD_CUP), exception.getCause().getMessage());
+        CompletionException removal = assertThrows(CompletionException.class, () -> registry.removeBoard(WORLD_CUP).join());
+        assertEquals(String.format(ERR_TOURNAMENT_NOT_FOUND, WORLD_CUP), removal.getCause().getMessage());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "  "})
+    void givenInvalidTournamentId_whenUsingIt_thenThrows(String tournamentId) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> registry.createBoard(tournamentId));
+        assertEquals(ERR_INVALID_TOURNAMENT_ID, exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void givenInvalidShardCount_whenCreating_thenThrows(int shardCount) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new ScoreBoardRegistry(shardCount));
+        assertEquals(ERR_INVALID_SHARDS, exception.getMessage());
+    }
+
+    @Test
+    void givenDefaultRegistry_whenUsingIt_thenBoardsWork() {
+        try (ScoreBoardRegistry defaultRegistry = new ScoreBoardRegistry()) {
+            defaultRegistry.createBoard(WORLD_CUP).join();
+            defaultRegistry.startNewMatch(WORLD_CUP, "Mexico", "Canada").join();
+            assertEquals(1, defaultRegistry.getTopMatches(5).join().size());
+        }
+    }
+
+    @Test
+    void givenManyTournaments_whenAskingForTopMatches_thenGlobalOrderIsReturned() {
+        for (int t = 0; t < 10; t++) {
+            String tournament = "league-" + t;
+            registry.createBoard(tournament).join();
+            for (int m = 0; m < 5; m++) {
+                registry.startNewMatch(tournament, "Home" + m, "Away" + m).join();
+                registry.updateScore(tournament, "Home" + m, "Away" + m, t, m).join();
+            }
+        }
+
+        List<TournamentMatch> top = registry.getTopMatches(3).join();
+
+        assertEquals(3, top.size());
+        assertEquals(new TournamentSummary("league-9", 13), summarize(top.get(0)));
+        assertEquals(new TournamentSummary("league-9", 12), summarize(top.get(1)));
+        assertEquals(12, top.get(2).match().getTotalScore());
+        assertEquals("league-8", top.get(2).tournamentId());
+    }
+
+    @Test
+    void givenEqualTotals_whenAskingForTopMatches_thenMostRecentlyStartedComesFirst() {
+        registry.startNewMatch(WORLD_CUP, "Mexico", "Canada").join();
+        registry.startNewMatch(QUALIFIERS, "Spain", "Brazil").join();
+        registry.startNewMatch(WORLD_CUP, "Germany", "France").join();
+
+        List<TournamentMatch> top = registry.getTopMatches(10).join();
+
+        assertEquals(List.of("Germany", "Spain", "Mexico"), top.stream().map(entry -> entry.match().getHomeTeam()).toList());
+    }
+
+    @Test
+    void givenRestoredMatchesWithEqualStartTimes_whenAskingForTopMatches_thenLaterRestoredComesFirst() throws IOException {
+        SimpleScoreBoard source = new SimpleScoreBoard();
+        source.startNewMatch("Mexico", "Canada");
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        source.writeCheckpoint(Channels.newChannel(checkpoint));
+        restore(WORLD_CUP, checkpoint.toByteArray());
+        restore(QUALIFIERS, checkpoint.toByteArray());
+
+        List<TournamentMatch> top = registry.getTopMatches(10).join();
+
+        assertEquals(List.of(QUALIFIERS, WORLD_CUP), top.stream().map(TournamentMatch::tournamentId).toList());
+        assertEquals(top.get(0).match().getStartTime(), top.get(1).match().getStartTime());
+        assertTrue(TournamentMatch.SUMMARY_ORDER.compare(top.get(0), top.get(1)) < 0);
+    }
+
+    @Test
+    void givenNoMatches_whenAskingForTopMatches_thenResultIsEmpty() {
+        assertTrue(registry.getTopMatches(10).join().isEmpty());
+        assertTrue(registry.getTopMatches(0).join().isEmpty());
+    }
+
+    @Test
+    void givenNegativeLimit_whenAskingForTopMatches_thenThrows() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> registry.getTopMatches(-1));
+        assertEquals(ERR_NEGATIVE_LIMIT, exception.getMessage());
+    }
+
+    @Test
+    void givenClosedRegistry_whenUsingIt_thenThrows() {
+        registry.close();
+
+        assertEquals(ERR_REGISTRY_CLOSED, assertThrows(IllegalStateException.class, () -> registry.getSummary(WORLD_CUP)).getMessage());
+        assertEquals(ERR_REGISTRY_CLOSED, assertThrows(IllegalStateException.class, () -> registry.getTopMatches(1)).getMessage());
+    }
+
+    @Test
+    void givenConcurrentClients_whenUpdatingDifferentTournaments_thenEveryUpdateIsApplied() {
+        List<CompletableFuture<Void>> updates = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            String tournament = "cup-" + t;
+            registry.createBoard(tournament).join();
+            registry.startNewMatch(tournament, "Home", "Away").join();
+        }
+        for (int goal = 1; goal <= 100; goal++) {
+            for (int t = 0; t < 8; t++) {
+                updates.add(registry.updateScore("cup-" + t, "Home", "Away", goal, 0));
+            }
+        }
+        CompletableFuture.allOf(updates.toArray(CompletableFuture[]::new)).join();
+
+        for (int t = 0; t < 8; t++) {
+            assertEquals(100, registry.getSummary("cup-" + t).join().getFirst().getHomeTeamPoints());
+        }
+    }
+
+    private record TournamentSummary(String tournamentId, int totalScore) {
+    }
+
+    private static TournamentSummary summarize(TournamentMatch entry) {
+        return new TournamentSummary(entry.tournamentId(), entry.match().getTotalScore());
+    }
+
+    private void restore(String tournamentId, byte[] checkpoint) {
+        registry.execute(tournamentId, board -> {
+            try {
+                board.restore(Channels.newChannel(new ByteArrayInputStream(checkpoint)));
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).join();
+    }
+}